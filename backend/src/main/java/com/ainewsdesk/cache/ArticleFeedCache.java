@@ -0,0 +1,78 @@
+package com.ainewsdesk.cache;
+
+import com.ainewsdesk.dto.ArticleDto;
+import com.ainewsdesk.event.ArticleChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 기사 목록 페이지 캐시
+ * <p>필터 + 페이지 단위로 Page&lt;ArticleDto&gt;를 캐싱하는 read-through 캐시, 크기/TTL 제한</p>
+ * <p>기사 변경 트랜잭션 커밋 시 세대(generation)를 올려 전체 무효화</p>
+ */
+@Component
+public class ArticleFeedCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArticleFeedCache.class);
+    private static final String CACHE_NAME = "articleFeed";
+
+    private final Cache<String, Page<ArticleDto>> cache;
+
+    // 무효화 이전에 시작된 조회 결과가 무효화 이후에 저장되어도 읽히지 않도록 키에 세대 포함
+    private final AtomicLong generation = new AtomicLong();
+
+    public ArticleFeedCache(
+            MeterRegistry meterRegistry,
+            @Value("${article.feed-cache.max-size:1000}") long maxSize,
+            @Value("${article.feed-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시 조회 - 없으면 loader로 조회 후 저장
+     *
+     * @param filter 필터 키 (예: "all", "source:OFFICIAL", "category:AI Research")
+     * @param pageable 페이징 정보
+     * @param loader DB 조회 함수
+     */
+    public Page<ArticleDto> get(String filter, Pageable pageable, Supplier<Page<ArticleDto>> loader) {
+        String key = generation.get() + "|" + filter + "|" + pageable.getPageNumber()
+                + "|" + pageable.getPageSize() + "|" + pageable.getSort();
+        return cache.get(key, k -> loader.get());
+    }
+
+    /**
+     * 기사 변경 시 전체 무효화 - 트랜잭션 커밋 후 실행
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        invalidateAll();
+    }
+
+    /**
+     * 전체 무효화
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+        logger.debug("Article feed cache invalidated");
+    }
+}
@@ -0,0 +1,186 @@
+package com.ainewsdesk.cache;
+
+import com.ainewsdesk.entity.Bookmark.BookmarkType;
+import com.ainewsdesk.event.BookmarkChangedEvent;
+import com.ainewsdesk.repository.BookmarkRepository;
+import com.ainewsdesk.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자별 북마크 집합 캐시
+ * <p>사용자마다 북마크한 기사 ID와 AI 요약 ID를 정렬된 long[]로 보관, 이진 탐색으로 북마크 여부 확인</p>
+ * <p>북마크 변경 트랜잭션 커밋 시 캐시된 집합에 바로 반영 (배열은 교체만 하고 수정하지 않음)</p>
+ * <p>집합마다 사용자 북마크 버전(users.bookmark_version)을 함께 보관하고, 마지막 확인 후 revalidate-ms가 지난 조회에서만
+ * 현재 버전을 PK로 읽어 다르면 다시 로드 - 그 사이 조회는 DB 접근 없이 메모리에서 응답</p>
+ * <p>다른 인스턴스에서 바뀐 북마크는 최대 revalidate-ms 늦게 반영 (TTL은 메모리 회수용)</p>
+ */
+@Component
+public class BookmarkMembershipCache {
+
+    private static final String CACHE_NAME = "bookmarkMembership";
+
+    private final BookmarkRepository bookmarkRepository;
+    private final UserRepository userRepository;
+    private final Cache<Long, Membership> cache;
+    private final long revalidateNanos;
+
+    public BookmarkMembershipCache(
+            BookmarkRepository bookmarkRepository,
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${bookmark.membership-cache.max-users:10000}") long maxUsers,
+            @Value("${bookmark.membership-cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${bookmark.membership-cache.revalidate-ms:1000}") long revalidateMillis) {
+        this.bookmarkRepository = bookmarkRepository;
+        this.userRepository = userRepository;
+        this.revalidateNanos = TimeUnit.MILLISECONDS.toNanos(revalidateMillis);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 북마크 여부 확인
+     */
+    public boolean contains(Long userId, BookmarkType bookmarkType, long itemId) {
+        return Arrays.binarySearch(membership(userId).ids(bookmarkType), itemId) >= 0;
+    }
+
+    /**
+     * 배치 북마크 여부 확인 - 요청 순서대로 항목 ID별 결과
+     */
+    public Map<Long, Boolean> containsAll(Long userId, BookmarkType bookmarkType, Collection<Long> itemIds) {
+        long[] ids = membership(userId).ids(bookmarkType);
+        Map<Long, Boolean> result = new LinkedHashMap<>(itemIds.size() * 2);
+        for (Long itemId : itemIds) {
+            result.put(itemId, Arrays.binarySearch(ids, itemId) >= 0);
+        }
+        return result;
+    }
+
+    /**
+     * 북마크 변경 반영 - 트랜잭션 커밋 후 실행, 캐시에 없는 사용자는 다음 조회 때 로드
+     * <p>캐시된 집합이 바로 이전 버전일 때만 변경을 적용하고 새 버전으로 올림,
+     * 그 사이 다른 변경이 끼어들었거나 변경 항목을 알 수 없는 RELOAD면 사용자 항목을 제거하여 다음 조회 때 다시 로드</p>
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookmarkChanged(BookmarkChangedEvent event) {
+        if (event.getChangeType() == BookmarkChangedEvent.ChangeType.RELOAD) {
+            cache.invalidate(event.getUserId());
+            return;
+        }
+        long[] changed = toSortedArray(event.getItemIds());
+        boolean added = event.getChangeType() == BookmarkChangedEvent.ChangeType.ADDED;
+        cache.asMap().computeIfPresent(event.getUserId(), (userId, membership) ->
+                membership.version == event.getBookmarkVersion() - 1
+                        ? membership.apply(event.getBookmarkType(), changed, added, event.getBookmarkVersion())
+                        : null);
+    }
+
+    /**
+     * 캐시된 집합 반환 - 확인 주기가 지났으면 현재 북마크 버전과 비교하여 다르면 다시 로드
+     * <p>버전을 먼저 읽고 집합을 읽으므로, 그 사이 커밋된 변경은 다음 확인 때 버전 차이로 다시 로드됨</p>
+     */
+    private Membership membership(Long userId) {
+        Membership cached = cache.getIfPresent(userId);
+        long now = System.nanoTime();
+        if (cached != null && now - cached.verifiedAt < revalidateNanos) {
+            return cached;
+        }
+        long version = userRepository.findBookmarkVersionById(userId).orElse(0L);
+        if (cached != null && cached.version == version) {
+            cached.verifiedAt = now;
+            return cached;
+        }
+        Membership loaded = new Membership(version, now,
+                toSortedArray(bookmarkRepository.findArticleIdsByUserId(userId)),
+                toSortedArray(bookmarkRepository.findAiSummaryIdsByUserId(userId)));
+        cache.put(userId, loaded);
+        return loaded;
+    }
+
+    private static long[] toSortedArray(List<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+    }
+
+    /**
+     * 정렬된 두 배열의 합집합
+     */
+    private static long[] union(long[] a, long[] b) {
+        long[] merged = new long[a.length + b.length];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length || j < b.length) {
+            long next;
+            if (j >= b.length || (i < a.length && a[i] <= b[j])) {
+                next = a[i++];
+            } else {
+                next = b[j++];
+            }
+            if (n == 0 || merged[n - 1] != next) {
+                merged[n++] = next;
+            }
+        }
+        return n == merged.length ? merged : Arrays.copyOf(merged, n);
+    }
+
+    /**
+     * 정렬된 배열 a에서 b의 원소 제거
+     */
+    private static long[] difference(long[] a, long[] b) {
+        long[] remaining = new long[a.length];
+        int n = 0;
+        for (long id : a) {
+            if (Arrays.binarySearch(b, id) < 0) {
+                remaining[n++] = id;
+            }
+        }
+        return n == a.length ? a : Arrays.copyOf(remaining, n);
+    }
+
+    /**
+     * 한 사용자의 북마크 집합 - 집합은 불변, 변경 시 새 객체로 교체 (마지막 버전 확인 시각만 갱신)
+     */
+    private static final class Membership {
+
+        private final long version;
+        private final long[] articleIds;
+        private final long[] summaryIds;
+        private volatile long verifiedAt;
+
+        private Membership(long version, long verifiedAt, long[] articleIds, long[] summaryIds) {
+            this.version = version;
+            this.verifiedAt = verifiedAt;
+            this.articleIds = articleIds;
+            this.summaryIds = summaryIds;
+        }
+
+        private long[] ids(BookmarkType bookmarkType) {
+            return bookmarkType == BookmarkType.ARTICLE ? articleIds : summaryIds;
+        }
+
+        private Membership apply(BookmarkType bookmarkType, long[] changed, boolean added, long newVersion) {
+            long[] current = ids(bookmarkType);
+            long[] updated = added ? union(current, changed) : difference(current, changed);
+            return bookmarkType == BookmarkType.ARTICLE
+                    ? new Membership(newVersion, verifiedAt, updated, summaryIds)
+                    : new Membership(newVersion, verifiedAt, articleIds, updated);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.ainewsdesk.cache;
+
+import com.ainewsdesk.entity.Article;
+import com.ainewsdesk.event.AiSummaryChangedEvent;
+import com.ainewsdesk.event.ArticleChangedEvent;
+import com.ainewsdesk.util.HashUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 상세 조회 응답 캐시
+ * <p>기사/AI 요약 상세 응답을 JSON 바이트와 gzip 바이트로 저장해 두고 그대로 전송 (재조회/재직렬화/재압축 없음)</p>
+ * <p>본문 해시로 만든 강한 ETag 제공, 변경 트랜잭션 커밋 시 해당 항목 무효화</p>
+ * <p>다른 인스턴스의 변경(크롤링, 요약 수정/삭제)은 이벤트가 오지 않으므로 TTL이 지나 다시 로드될 때 반영</p>
+ */
+@Component
+public class DetailResponseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(DetailResponseCache.class);
+    private static final String CACHE_NAME = "detailResponse";
+
+    // 이보다 작은 본문은 압축 이득이 적어 gzip 생략
+    private static final int MIN_COMPRESS_BYTES = 512;
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, Entry> cache;
+
+    // 조회 중 무효화된 항목이 저장되지 않도록 무효화마다 증가
+    private final AtomicLong generation = new AtomicLong();
+
+    public DetailResponseCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${response-cache.max-bytes:67108864}") long maxBytes,
+            @Value("${response-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, Entry entry) -> entry.weight())
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 기사 상세 응답
+     */
+    public ResponseEntity<byte[]> article(Long id, String acceptEncoding, Supplier<Object> loader) {
+        return respond("article:" + id, acceptEncoding, loader);
+    }
+
+    /**
+     * AI 요약 상세 응답
+     */
+    public ResponseEntity<byte[]> summary(Long id, String acceptEncoding, Supplier<Object> loader) {
+        return respond("summary:" + id, acceptEncoding, loader);
+    }
+
+    /**
+     * 캐시된 응답 전송 - 없으면 loader로 조회 후 직렬화/압축하여 저장
+     * <p>If-None-Match가 ETag와 같으면 Spring이 본문 없이 304로 응답</p>
+     */
+    private ResponseEntity<byte[]> respond(String key, String acceptEncoding, Supplier<Object> loader) {
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null) {
+            long loadGeneration = generation.get();
+            entry = toEntry(loader.get());
+            if (generation.get() == loadGeneration) {
+                cache.put(key, entry);
+            }
+        }
+
+        boolean gzip = entry.gzip != null && acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return builder.eTag(entry.etag + "-gzip")
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentLength(entry.gzip.length)
+                    .body(entry.gzip);
+        }
+        return builder.eTag(entry.etag)
+                .contentLength(entry.json.length)
+                .body(entry.json);
+    }
+
+    /**
+     * 기사 변경 시 해당 기사 무효화 - 트랜잭션 커밋 후 실행
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        generation.incrementAndGet();
+        for (Article article : event.getArticles()) {
+            cache.invalidate("article:" + article.getId());
+        }
+        for (Long articleId : event.getArticleIds()) {
+            cache.invalidate("article:" + articleId);
+        }
+    }
+
+    /**
+     * AI 요약 변경 시 해당 요약 무효화 - 트랜잭션 커밋 후 실행
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSummaryChanged(AiSummaryChangedEvent event) {
+        generation.incrementAndGet();
+        cache.invalidate("summary:" + event.getSummaryId());
+        logger.debug("Detail response cache invalidated. Summary ID: {}", event.getSummaryId());
+    }
+
+    private Entry toEntry(Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            String etag = HashUtils.sha256Hex(json);
+            return new Entry(json, json.length >= MIN_COMPRESS_BYTES ? gzip(json) : null, etag);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 3);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] compressed = out.toByteArray();
+        return compressed.length < bytes.length ? compressed : null;
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").equalsIgnoreCase("q=0");
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 캐시 항목 - JSON 본문, gzip 본문 (압축 이득이 없으면 null), 본문 해시
+     */
+    private static final class Entry {
+
+        private final byte[] json;
+        private final byte[] gzip;
+        private final String etag;
+
+        private Entry(byte[] json, byte[] gzip, String etag) {
+            this.json = json;
+            this.gzip = gzip;
+            this.etag = etag;
+        }
+
+        private int weight() {
+            return json.length + (gzip != null ? gzip.length : 0);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.ainewsdesk.cache;
+
+import com.ainewsdesk.entity.AiSummary;
+import com.ainewsdesk.event.AiSummaryChangedEvent;
+import com.ainewsdesk.repository.AiSummaryRepository;
+import com.ainewsdesk.util.HashUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 최신 발행 AI 요약 스냅샷
+ * <p>최신 발행 요약을 JSON으로 직렬화해 두고 통째로 교체, 조회 시 DB 접근 없이 바이트와 ETag 반환</p>
+ * <p>AI 요약 변경 트랜잭션 커밋 시 다시 로드, 다른 인스턴스의 변경은 주기적 갱신으로 반영</p>
+ */
+@Component
+public class LatestAiSummaryHolder {
+
+    private static final Logger logger = LoggerFactory.getLogger(LatestAiSummaryHolder.class);
+
+    private final AiSummaryRepository aiSummaryRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    // 로드 전에는 null, 발행 요약이 없으면 Optional.empty()
+    private final AtomicReference<Optional<Snapshot>> current = new AtomicReference<>();
+
+    public LatestAiSummaryHolder(AiSummaryRepository aiSummaryRepository,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager) {
+        this.aiSummaryRepository = aiSummaryRepository;
+        this.objectMapper = objectMapper;
+        // 커밋 직후 리스너에서도 실행되므로 항상 새 읽기 전용 트랜잭션 사용
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 최신 발행 요약 스냅샷 조회 - 아직 로드 전이면 로드
+     */
+    public Optional<Snapshot> get() {
+        Optional<Snapshot> snapshot = current.get();
+        return snapshot != null ? snapshot : refresh();
+    }
+
+    /**
+     * 기동 시 로드
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refreshQuietly();
+    }
+
+    /**
+     * AI 요약 변경 반영 - 트랜잭션 커밋 후 실행
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSummaryChanged(AiSummaryChangedEvent event) {
+        refreshQuietly();
+    }
+
+    /**
+     * 주기적 갱신 - 다른 인스턴스에서 변경된 요약 반영
+     */
+    @Scheduled(fixedDelayString = "${ai-summary.latest.refresh-interval-ms:60000}",
+            initialDelayString = "${ai-summary.latest.refresh-interval-ms:60000}")
+    public void refreshPeriodically() {
+        refreshQuietly();
+    }
+
+    /**
+     * 갱신 실패 시 이전 스냅샷 유지 (커밋된 변경 요청이 실패로 보이지 않도록 예외를 전파하지 않음)
+     */
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            logger.warn("Failed to refresh latest AI summary snapshot. Keeping previous snapshot.", e);
+        }
+    }
+
+    /**
+     * DB에서 최신 발행 요약을 로드하여 스냅샷 교체 - 동시 갱신 시 늦게 읽은 결과가 먼저 읽은 결과를 덮지 않도록 직렬화
+     */
+    public synchronized Optional<Snapshot> refresh() {
+        Optional<Snapshot> snapshot = transactionTemplate.execute(status ->
+                aiSummaryRepository.findLatestPublished().map(this::toSnapshot));
+        Optional<Snapshot> previous = current.getAndSet(snapshot);
+
+        String previousTag = previous != null ? previous.map(Snapshot::getEtag).orElse(null) : null;
+        String newTag = snapshot.map(Snapshot::getEtag).orElse(null);
+        if (!Objects.equals(previousTag, newTag)) {
+            logger.info("Latest AI summary snapshot refreshed. ID: {}, ETag: {}",
+                    snapshot.map(Snapshot::getSummaryId).orElse(null), newTag);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 엔티티 직렬화 - 트랜잭션 안에서 실행하여 관련 기사 링크까지 포함
+     */
+    private Snapshot toSnapshot(AiSummary summary) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(summary);
+            return new Snapshot(summary.getId(), body, "\"" + HashUtils.sha256Hex(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 직렬화된 최신 요약 - 본문 바이트와 본문 해시로 만든 강한 ETag
+     */
+    public static final class Snapshot {
+
+        private final Long summaryId;
+        private final byte[] body;
+        private final String etag;
+
+        private Snapshot(Long summaryId, byte[] body, String etag) {
+            this.summaryId = summaryId;
+            this.body = body;
+            this.etag = etag;
+        }
+
+        public Long getSummaryId() {
+            return summaryId;
+        }
+
+        /**
+         * JSON 본문 (공유 배열이므로 수정 금지)
+         */
+        public byte[] getBody() {
+            return body;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.ainewsdesk.cache;
+
+import com.ainewsdesk.entity.LlmResponseCacheEntry;
+import com.ainewsdesk.repository.LlmResponseCacheRepository;
+import com.ainewsdesk.util.HashUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * LLM 응답 캐시 (DB 저장)
+ * <p>모델, 생성 설정, 프롬프트의 해시를 키로 응답을 저장하여 같은 입력의 재호출 방지</p>
+ * <p>프롬프트에 입력 기사 내용이 포함되므로 입력이 같으면 키도 같음, 재시작/여러 인스턴스 간 공유</p>
+ */
+@Component
+public class LlmResponseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(LlmResponseCache.class);
+
+    private final LlmResponseCacheRepository cacheRepository;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration ttl;
+
+    public LlmResponseCache(
+            LlmResponseCacheRepository cacheRepository,
+            MeterRegistry meterRegistry,
+            @Value("${gemini.cache.enabled:true}") boolean enabled,
+            @Value("${gemini.cache.ttl-hours:72}") long ttlHours) {
+        this.cacheRepository = cacheRepository;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    /**
+     * 캐시 키 생성
+     */
+    public static String keyOf(String model, double temperature, int maxTokens, String prompt) {
+        return HashUtils.sha256Hex(model + "\n" + temperature + "\n" + maxTokens + "\n" + prompt);
+    }
+
+    /**
+     * 캐시 조회 - 없거나 만료되면 빈 값
+     */
+    public Optional<String> get(String key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            Optional<String> response = cacheRepository.findById(key)
+                    .filter(entry -> entry.getCreatedAt().isAfter(LocalDateTime.now().minus(ttl)))
+                    .map(LlmResponseCacheEntry::getResponse);
+            meterRegistry.counter("gemini.cache", "result", response.isPresent() ? "hit" : "miss").increment();
+            return response;
+        } catch (Exception e) {
+            // 캐시 장애는 호출을 막지 않음
+            logger.warn("LLM cache lookup failed. Key: {}, Error: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 응답 저장 - 같은 키가 있으면 덮어씀 (만료된 항목은 새 응답으로 갱신, 동시 저장은 마지막 것이 남음)
+     */
+    public void put(String key, String model, String response) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            cacheRepository.upsert(key, model, response, LocalDateTime.now());
+        } catch (Exception e) {
+            logger.warn("LLM cache store failed. Key: {}, Error: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 만료 항목 정리 - 매일 04:30
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void purgeExpired() {
+        int deleted = cacheRepository.deleteCreatedBefore(LocalDateTime.now().minus(ttl));
+        if (deleted > 0) {
+            logger.info("Expired LLM cache entries purged. Count: {}", deleted);
+        }
+    }
+}
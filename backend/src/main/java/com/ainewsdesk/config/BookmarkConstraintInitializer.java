@@ -0,0 +1,96 @@
+package com.ainewsdesk.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 북마크 유니크 제약 보장
+ * <p>북마크 저장은 (사용자, 대상) 유니크 제약에 기대어 중복을 막으므로(INSERT IGNORE / MERGE) 제약이 반드시 있어야 함</p>
+ * <p>ddl-auto=update는 기존 중복 행이 있으면 ALTER 실패를 로그만 남기고 넘어가므로,
+ * 기동 시 제약이 없으면 중복 행(가장 먼저 만든 행만 남김)을 지우고 제약을 추가, 그래도 없으면 기동 실패</p>
+ */
+@Component
+public class BookmarkConstraintInitializer implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookmarkConstraintInitializer.class);
+
+    // 제약 이름 → 사용자와 함께 유니크해야 하는 대상 컬럼 (Bookmark 엔티티의 @UniqueConstraint와 동일)
+    private static final Map<String, String> CONSTRAINTS = new LinkedHashMap<>();
+
+    static {
+        CONSTRAINTS.put("uk_user_article", "article_id");
+        CONSTRAINTS.put("uk_user_summary", "ai_summary_id");
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BookmarkConstraintInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 모든 싱글톤(스키마를 갱신하는 EntityManagerFactory 포함) 생성 후, 웹 서버 시작 전에 실행
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (Map.Entry<String, String> constraint : CONSTRAINTS.entrySet()) {
+            String column = constraint.getValue();
+            if (hasUniqueIndex(column)) {
+                continue;
+            }
+
+            // MySQL은 DELETE 대상 테이블을 서브쿼리에서 직접 읽을 수 없으므로 파생 테이블로 한 번 감쌈
+            int removed = jdbcTemplate.update("DELETE FROM bookmarks WHERE id IN (SELECT id FROM ("
+                    + "SELECT b.id FROM bookmarks b JOIN bookmarks k "
+                    + "ON k.user_id = b.user_id AND k." + column + " = b." + column + " AND k.id < b.id) d)");
+            jdbcTemplate.execute("ALTER TABLE bookmarks ADD CONSTRAINT " + constraint.getKey()
+                    + " UNIQUE (user_id, " + column + ")");
+            logger.warn("Bookmark unique constraint added. Constraint: {}, Duplicate rows removed: {}",
+                    constraint.getKey(), removed);
+
+            if (!hasUniqueIndex(column)) {
+                throw new IllegalStateException("Bookmark unique constraint is missing: " + constraint.getKey());
+            }
+        }
+    }
+
+    /**
+     * (user_id, column) 유니크 인덱스 존재 여부 - 제약 이름은 DB마다 다르게 보일 수 있어 컬럼 구성으로 확인
+     */
+    private boolean hasUniqueIndex(String column) {
+        Set<String> expected = Set.of("user_id", column);
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            // H2는 따옴표 없는 이름을 대문자로 저장
+            for (String table : new String[]{"bookmarks", "BOOKMARKS"}) {
+                Map<String, Set<String>> indexColumns = new HashMap<>();
+                try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), null, table, true, false)) {
+                    while (rs.next()) {
+                        String indexName = rs.getString("INDEX_NAME");
+                        String columnName = rs.getString("COLUMN_NAME");
+                        if (indexName != null && columnName != null) {
+                            indexColumns.computeIfAbsent(indexName, key -> new HashSet<>())
+                                    .add(columnName.toLowerCase());
+                        }
+                    }
+                }
+                if (indexColumns.containsValue(expected)) {
+                    return true;
+                }
+            }
+            return false;
+        }));
+    }
+}
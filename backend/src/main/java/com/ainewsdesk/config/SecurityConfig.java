@@ -1,6 +1,7 @@
 package com.ainewsdesk.config;
 
 import com.ainewsdesk.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -51,6 +52,9 @@ public class SecurityConfig {
 
                 // 인증 규칙 설정
                 .authorizeHttpRequests(authz -> authz
+                        // 비동기 응답(SSE) 완료 디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Swagger UI 관련 경로는 모두 허용
                         .requestMatchers("/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs", "/v3/api-docs/**").permitAll()
 
@@ -0,0 +1,95 @@
+package com.ainewsdesk.config;
+
+import com.ainewsdesk.controller.AiSummaryController;
+import com.ainewsdesk.controller.ArticleController;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 필드 선택(sparse fieldset) 응답 처리
+ * <p>기사/AI 요약 GET 응답에 fields=id,title,... 파라미터가 있으면 지정한 필드만 남김 (id는 항상 포함)</p>
+ * <p>페이지 응답(Page, CursorPageDto)은 content 항목마다 적용, 알 수 없는 필드 이름은 무시</p>
+ */
+@RestControllerAdvice(assignableTypes = {ArticleController.class, AiSummaryController.class})
+public class SparseFieldsetAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String FIELDS_PARAM = "fields";
+
+    private static final String ITEMS_FIELD = "content";
+    private static final String ID_FIELD = "id";
+
+    private final ObjectMapper objectMapper;
+
+    public SparseFieldsetAdvice(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || request.getMethod() != HttpMethod.GET || !(request instanceof ServletServerHttpRequest)) {
+            return body;
+        }
+        String fieldsParam = ((ServletServerHttpRequest) request).getServletRequest().getParameter(FIELDS_PARAM);
+        if (fieldsParam == null || fieldsParam.isBlank()) {
+            return body;
+        }
+
+        Set<String> fields = Arrays.stream(fieldsParam.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toCollection(HashSet::new));
+        fields.add(ID_FIELD);
+
+        JsonNode tree = objectMapper.valueToTree(body);
+        if (tree.isArray()) {
+            retainEach((ArrayNode) tree, fields);
+        } else if (tree.isObject() && tree.path(ITEMS_FIELD).isArray()) {
+            retainEach((ArrayNode) tree.get(ITEMS_FIELD), fields);
+        } else if (tree.isObject()) {
+            retain((ObjectNode) tree, fields);
+        }
+        return tree;
+    }
+
+    private static void retainEach(ArrayNode items, Set<String> fields) {
+        for (JsonNode item : items) {
+            if (item.isObject()) {
+                retain((ObjectNode) item, fields);
+            }
+        }
+    }
+
+    private static void retain(ObjectNode node, Set<String> fields) {
+        Iterator<String> names = node.fieldNames();
+        while (names.hasNext()) {
+            if (!fields.contains(names.next())) {
+                names.remove();
+            }
+        }
+    }
+}
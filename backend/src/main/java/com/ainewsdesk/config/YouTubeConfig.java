@@ -13,6 +13,7 @@ import java.io.IOException;
 import java.security.GeneralSecurityException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * YouTube API 설정 클래스
@@ -27,6 +28,21 @@ public class YouTubeConfig {
     @Value("${youtube.api.max-results:10}")
     private int maxResults;
 
+    @Value("${youtube.api.requests-per-second:5}")
+    private double requestsPerSecond;
+
+    @Value("${youtube.api.burst:5}")
+    private int burst;
+
+    @Value("${youtube.crawler.concurrency:4}")
+    private int crawlerConcurrency;
+
+    @Value("${youtube.crawler.watermark-overlap-minutes:360}")
+    private long watermarkOverlapMinutes;
+
+    @Value("${youtube.quota.low-priority-channels:}")
+    private Set<String> lowPriorityChannels;
+
     @Value("${youtube.api.channels.openai:}")
     private String openaiChannelId;
 
@@ -65,6 +81,41 @@ public class YouTubeConfig {
         return maxResults;
     }
 
+    /**
+     * 초당 API 요청 수 반환
+     */
+    public double getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    /**
+     * 순간 최대 API 요청 수 반환
+     */
+    public int getBurst() {
+        return burst;
+    }
+
+    /**
+     * 동시 크롤링 채널 수 반환
+     */
+    public int getCrawlerConcurrency() {
+        return crawlerConcurrency;
+    }
+
+    /**
+     * 워터마크 중첩 조회 구간(분) 반환
+     */
+    public long getWatermarkOverlapMinutes() {
+        return watermarkOverlapMinutes;
+    }
+
+    /**
+     * 저우선순위 채널 여부 - 할당량 부족 시 먼저 건너뜀
+     */
+    public boolean isLowPriorityChannel(String channelName) {
+        return lowPriorityChannels.contains(channelName);
+    }
+
     /**
      * AI 관련 채널 ID 맵 반환
      */
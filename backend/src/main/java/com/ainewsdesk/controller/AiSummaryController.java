@@ -1,8 +1,17 @@
 package com.ainewsdesk.controller;
 
+import com.ainewsdesk.cache.DetailResponseCache;
+import com.ainewsdesk.cache.LatestAiSummaryHolder;
+import com.ainewsdesk.config.SparseFieldsetAdvice;
+import com.ainewsdesk.dto.AiSummaryListDto;
 import com.ainewsdesk.entity.AiSummary;
+import com.ainewsdesk.entity.AiSummaryRevision;
+import com.ainewsdesk.exception.BadRequestException;
 import com.ainewsdesk.service.AiSummaryService;
+import com.ainewsdesk.service.AiSummaryStreamService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,15 +20,22 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * AI 요약 REST API 컨트롤러
- * <p>AI 요약 조회, 생성, 발행, 삭제 API 엔드포인트 제공</p>
+ * <p>AI 요약 조회, 생성, 발행, 삭제, 주문형 요약 스트리밍 API 엔드포인트 제공</p>
  */
 @RestController
 @RequestMapping("/ai-summaries")
@@ -27,77 +43,121 @@ import java.util.Optional;
 public class AiSummaryController {
 
     private final AiSummaryService aiSummaryService;
+    private final AiSummaryStreamService aiSummaryStreamService;
+    private final LatestAiSummaryHolder latestSummaryHolder;
+    private final DetailResponseCache detailResponseCache;
 
-    public AiSummaryController(AiSummaryService aiSummaryService) {
+    public AiSummaryController(AiSummaryService aiSummaryService,
+                               AiSummaryStreamService aiSummaryStreamService,
+                               LatestAiSummaryHolder latestSummaryHolder,
+                               DetailResponseCache detailResponseCache) {
         this.aiSummaryService = aiSummaryService;
+        this.aiSummaryStreamService = aiSummaryStreamService;
+        this.latestSummaryHolder = latestSummaryHolder;
+        this.detailResponseCache = detailResponseCache;
     }
 
     /**
-     * 전체 AI 요약 목록 조회 - 페이징, 최신순 정렬
+     * 전체 AI 요약 목록 조회 - 페이징, 최신순 정렬, 본문 제외
      *
      * @param pageable 페이징 정보
-     * @return Page<AiSummary> AI 요약 목록
+     * @return Page<AiSummaryListDto> AI 요약 목록
      */
     @GetMapping
-    @Operation(summary = "모든 AI 요약 조회", description = "전체 AI 요약 목록 페이징 조회, 최신순 정렬")
+    @Operation(summary = "모든 AI 요약 조회", description = "전체 AI 요약 목록 페이징 조회, 최신순 정렬 (본문은 상세 조회)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공")
     })
-    public ResponseEntity<Page<AiSummary>> getAllSummaries(
+    public ResponseEntity<Page<AiSummaryListDto>> getAllSummaries(
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<AiSummary> summaries = aiSummaryService.getAllSummaries(pageable);
+        Page<AiSummaryListDto> summaries = aiSummaryService.getAllSummaries(pageable);
         return ResponseEntity.ok(summaries);
     }
 
     /**
-     * 발행된 AI 요약 목록 조회 - PUBLISHED 상태만
+     * 발행된 AI 요약 목록 조회 - PUBLISHED 상태만, 본문 제외
      *
      * @param pageable 페이징 정보
-     * @return Page<AiSummary> 발행된 AI 요약 목록
+     * @return Page<AiSummaryListDto> 발행된 AI 요약 목록
      */
     @GetMapping("/published")
-    @Operation(summary = "발행된 AI 요약 조회", description = "PUBLISHED 상태 AI 요약 목록 페이징 조회")
+    @Operation(summary = "발행된 AI 요약 조회", description = "PUBLISHED 상태 AI 요약 목록 페이징 조회 (본문은 상세 조회)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공")
     })
-    public ResponseEntity<Page<AiSummary>> getPublishedSummaries(
+    public ResponseEntity<Page<AiSummaryListDto>> getPublishedSummaries(
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<AiSummary> summaries = aiSummaryService.getPublishedSummaries(pageable);
+        Page<AiSummaryListDto> summaries = aiSummaryService.getPublishedSummaries(pageable);
         return ResponseEntity.ok(summaries);
     }
 
     /**
      * 최신 발행 AI 요약 조회 - PUBLISHED 상태 최신 1건
+     * <p>메모리 스냅샷에서 직렬화된 본문을 반환, If-None-Match가 ETag와 같으면 304</p>
      *
-     * @return AiSummary 최신 발행 AI 요약
+     * @return AiSummary 최신 발행 AI 요약 (JSON)
      */
     @GetMapping("/latest")
-    @Operation(summary = "최신 AI 요약 조회", description = "최신 발행(PUBLISHED) AI 요약 조회")
+    @Operation(summary = "최신 AI 요약 조회", description = "최신 발행(PUBLISHED) AI 요약 조회, ETag로 조건부 요청 지원")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = AiSummary.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음"),
             @ApiResponse(responseCode = "404", description = "발행된 요약이 없음")
     })
-    public ResponseEntity<AiSummary> getLatestSummary() {
-        Optional<AiSummary> summary = aiSummaryService.getLatestSummary();
-        return summary.map(ResponseEntity::ok)
-                .orElseGet(() -> ResponseEntity.notFound().build());
+    public ResponseEntity<byte[]> getLatestSummary() {
+        Optional<LatestAiSummaryHolder.Snapshot> snapshot = latestSummaryHolder.get();
+        if (snapshot.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        // If-None-Match가 ETag와 같으면 Spring이 본문 없이 304로 응답
+        return ResponseEntity.ok()
+                .eTag(snapshot.get().getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.get().getBody());
     }
 
     /**
      * AI 요약 상세 조회
+     * <p>직렬화/압축된 응답을 캐시에서 전송, fields 지정 시에는 캐시를 거치지 않음</p>
      *
      * @param id AI 요약 ID
      * @return AiSummary AI 요약 상세
      */
     @GetMapping("/{id}")
-    @Operation(summary = "AI 요약 상세 조회", description = "AI 요약 ID로 상세 정보 조회")
+    @Operation(summary = "AI 요약 상세 조회", description = "AI 요약 ID로 상세 정보 조회, ETag로 조건부 요청 지원")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = AiSummary.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음"),
+            @ApiResponse(responseCode = "404", description = "AI 요약을 찾을 수 없음")
+    })
+    public ResponseEntity<?> getSummaryById(
+            @PathVariable Long id,
+            @RequestParam(name = SparseFieldsetAdvice.FIELDS_PARAM, required = false) String fields,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (fields != null) {
+            return ResponseEntity.ok(aiSummaryService.getSummaryById(id));
+        }
+        return detailResponseCache.summary(id, acceptEncoding, () -> aiSummaryService.getSummaryById(id));
+    }
+
+    /**
+     * AI 요약 이전 버전 조회
+     *
+     * @param id AI 요약 ID
+     * @return List<AiSummaryRevision> 이전 버전 목록 (최신 버전부터)
+     */
+    @GetMapping("/{id}/revisions")
+    @Operation(summary = "AI 요약 이전 버전 조회", description = "증분 갱신 전 요약 내용을 최신 버전부터 조회")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "404", description = "AI 요약을 찾을 수 없음")
     })
-    public ResponseEntity<AiSummary> getSummaryById(@PathVariable Long id) {
-        AiSummary summary = aiSummaryService.getSummaryById(id);
-        return ResponseEntity.ok(summary);
+    public ResponseEntity<List<AiSummaryRevision>> getRevisions(@PathVariable Long id) {
+        return ResponseEntity.ok(aiSummaryService.getRevisions(id));
     }
 
     /**
@@ -117,6 +177,31 @@ public class AiSummaryController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdSummary);
     }
 
+    /**
+     * 주문형 AI 요약 스트리밍 - 기간/카테고리 기사로 요약을 생성하며 텍스트를 SSE로 전송
+     * <p>이벤트: articles(입력 기사 수), chunk(텍스트 조각), summary(저장된 DRAFT 요약), error</p>
+     *
+     * @param start 기간 시작
+     * @param end 기간 끝
+     * @param category 카테고리 (없으면 전체)
+     * @return SseEmitter 요약 이벤트 스트림
+     */
+    @PostMapping("/stream")
+    @Operation(summary = "주문형 AI 요약 스트리밍", description = "기간/카테고리 기사로 요약을 생성하며 텍스트를 SSE로 전송, 완료 후 DRAFT로 저장")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "스트리밍 시작"),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간 또는 요약할 기사가 없음")
+    })
+    public SseEmitter streamSummary(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) String category) {
+        if (start.isAfter(end)) {
+            throw new BadRequestException("Start date-time must not be after end date-time");
+        }
+        return aiSummaryStreamService.streamSummary(start, end, category);
+    }
+
     /**
      * AI 요약 발행 - PUBLISHED 상태로 변경
      *
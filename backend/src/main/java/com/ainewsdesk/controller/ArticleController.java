@@ -1,8 +1,11 @@
 package com.ainewsdesk.controller;
 
+import com.ainewsdesk.cache.DetailResponseCache;
+import com.ainewsdesk.config.SparseFieldsetAdvice;
 import com.ainewsdesk.dto.ArticleDetailDto;
 import com.ainewsdesk.dto.ArticleDto;
 import com.ainewsdesk.dto.CreateArticleRequest;
+import com.ainewsdesk.dto.CursorPageDto;
 import com.ainewsdesk.entity.Article.SourceType;
 import com.ainewsdesk.exception.BadRequestException;
 import com.ainewsdesk.service.ArticleService;
@@ -19,10 +22,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+
 /**
  * 뉴스 기사 REST API 컨트롤러
  * <p>뉴스 기사 조회, 생성, 수정, 삭제 API 엔드포인트 제공</p>
@@ -33,11 +40,14 @@ import org.springframework.web.bind.annotation.*;
 public class ArticleController {
 
     private static final Logger logger = LoggerFactory.getLogger(ArticleController.class);
+    private static final int MAX_FEED_SIZE = 100;
 
     private final ArticleService articleService;
+    private final DetailResponseCache detailResponseCache;
 
-    public ArticleController(ArticleService articleService) {
+    public ArticleController(ArticleService articleService, DetailResponseCache detailResponseCache) {
         this.articleService = articleService;
+        this.detailResponseCache = detailResponseCache;
     }
 
     /**
@@ -128,23 +138,130 @@ public class ArticleController {
         return ResponseEntity.ok(articles);
     }
 
+    /**
+     * 전체 기사 커서 조회 - 무한 스크롤용, 최신순 정렬
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @return CursorPageDto<ArticleDto> 기사 목록과 다음 커서
+     */
+    @GetMapping("/feed")
+    @Operation(summary = "기사 피드 커서 조회", description = "crawledAt, id 기준 커서 페이징 조회, 전체 개수 미제공")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 페이지 크기")
+    })
+    public ResponseEntity<CursorPageDto<ArticleDto>> getArticleFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        validateFeedSize(size);
+
+        logger.debug("Fetching article feed. Cursor: {}, Size: {}", cursor, size);
+        CursorPageDto<ArticleDto> articles = articleService.getArticleFeed(cursor, size);
+        logger.debug("Retrieved {} articles from feed. Has next: {}", articles.getSize(), articles.isHasNext());
+        return ResponseEntity.ok(articles);
+    }
+
+    /**
+     * 출처 타입별 커서 조회
+     *
+     * @param sourceType 출처 타입
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @return CursorPageDto<ArticleDto> 기사 목록과 다음 커서
+     */
+    @GetMapping("/feed/source/{sourceType}")
+    public ResponseEntity<CursorPageDto<ArticleDto>> getArticleFeedBySourceType(
+            @PathVariable SourceType sourceType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        validateFeedSize(size);
+
+        logger.debug("Fetching article feed by source type: {}, Cursor: {}", sourceType, cursor);
+        CursorPageDto<ArticleDto> articles = articleService.getArticleFeedBySourceType(sourceType, cursor, size);
+        logger.debug("Retrieved {} articles of source type: {}", articles.getSize(), sourceType);
+        return ResponseEntity.ok(articles);
+    }
+
+    /**
+     * 카테고리별 커서 조회
+     *
+     * @param category 카테고리명
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @return CursorPageDto<ArticleDto> 기사 목록과 다음 커서
+     */
+    @GetMapping("/feed/category/{category}")
+    public ResponseEntity<CursorPageDto<ArticleDto>> getArticleFeedByCategory(
+            @PathVariable String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        if (category == null || category.trim().isEmpty()) {
+            logger.warn("Article category feed validation failed: category is empty");
+            throw new BadRequestException("Category cannot be empty");
+        }
+        if (category.length() > 50) {
+            logger.warn("Article category feed validation failed: category length exceeds limit. Length: {}", category.length());
+            throw new BadRequestException("Category cannot exceed 50 characters");
+        }
+        validateFeedSize(size);
+
+        logger.debug("Fetching article feed by category: {}, Cursor: {}", category, cursor);
+        CursorPageDto<ArticleDto> articles = articleService.getArticleFeedByCategory(category, cursor, size);
+        logger.debug("Retrieved {} articles in category: {}", articles.getSize(), category);
+        return ResponseEntity.ok(articles);
+    }
+
+    /**
+     * 기간별 커서 조회 - 크롤링 시간 기준
+     *
+     * @param start 시작 시간 (ISO-8601)
+     * @param end 종료 시간 (ISO-8601)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @return CursorPageDto<ArticleDto> 기사 목록과 다음 커서
+     */
+    @GetMapping("/feed/date-range")
+    public ResponseEntity<CursorPageDto<ArticleDto>> getArticleFeedByDateRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        if (start.isAfter(end)) {
+            logger.warn("Article date range feed validation failed: start {} is after end {}", start, end);
+            throw new BadRequestException("Start date-time must not be after end date-time");
+        }
+        validateFeedSize(size);
+
+        logger.debug("Fetching article feed by date range: {} ~ {}, Cursor: {}", start, end, cursor);
+        CursorPageDto<ArticleDto> articles = articleService.getArticleFeedByDateRange(start, end, cursor, size);
+        logger.debug("Retrieved {} articles in date range: {} ~ {}", articles.getSize(), start, end);
+        return ResponseEntity.ok(articles);
+    }
+
     /**
      * 기사 상세 조회 - 본문 포함
+     * <p>직렬화/압축된 응답을 캐시에서 전송, fields 지정 시에는 캐시를 거치지 않음</p>
      *
      * @param id 기사 ID
      * @return ArticleDetailDto 기사 상세 정보
      */
     @GetMapping("/{id}")
-    @Operation(summary = "기사 상세 조회", description = "기사 ID로 상세 정보 조회, 본문 포함")
+    @Operation(summary = "기사 상세 조회", description = "기사 ID로 상세 정보 조회, 본문 포함, ETag로 조건부 요청 지원")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ArticleDetailDto.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음"),
             @ApiResponse(responseCode = "404", description = "기사 없음")
     })
-    public ResponseEntity<ArticleDetailDto> getArticleById(@PathVariable Long id) {
+    public ResponseEntity<?> getArticleById(
+            @PathVariable Long id,
+            @RequestParam(name = SparseFieldsetAdvice.FIELDS_PARAM, required = false) String fields,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         logger.debug("Fetching article details. ID: {}", id);
-        ArticleDetailDto article = articleService.getArticleById(id);
-        logger.debug("Retrieved article details. ID: {}, Title: {}", id, article.getTitle());
-        return ResponseEntity.ok(article);
+        if (fields != null) {
+            return ResponseEntity.ok(articleService.getArticleById(id));
+        }
+        return detailResponseCache.article(id, acceptEncoding, () -> articleService.getArticleById(id));
     }
 
     /**
@@ -223,4 +340,14 @@ public class ArticleController {
         logger.debug("Total article count: {}", count);
         return ResponseEntity.ok(count);
     }
+
+    /**
+     * 커서 조회 페이지 크기 검증 헬퍼
+     */
+    private void validateFeedSize(int size) {
+        if (size < 1 || size > MAX_FEED_SIZE) {
+            logger.warn("Article feed validation failed: invalid size {}", size);
+            throw new BadRequestException("Feed size must be between 1 and " + MAX_FEED_SIZE);
+        }
+    }
 }
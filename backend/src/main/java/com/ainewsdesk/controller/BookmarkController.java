@@ -1,8 +1,11 @@
 package com.ainewsdesk.controller;
 
+import com.ainewsdesk.dto.BookmarkBatchRequest;
+import com.ainewsdesk.dto.BookmarkBatchResult;
 import com.ainewsdesk.dto.BookmarkCheckResponse;
 import com.ainewsdesk.dto.BookmarkDto;
 import com.ainewsdesk.dto.BookmarkRequest;
+import com.ainewsdesk.entity.Bookmark.BookmarkType;
 import com.ainewsdesk.exception.BadRequestException;
 import com.ainewsdesk.security.AuthenticationHelper;
 import com.ainewsdesk.service.BookmarkService;
@@ -25,6 +28,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 북마크 REST API 컨트롤러
  * <p>북마크 조회, 추가, 삭제, 확인 API 엔드포인트 제공</p>
@@ -125,6 +130,58 @@ public class BookmarkController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 북마크 대량 추가 - 존재하지 않는 대상과 이미 북마크된 항목은 건너뜀
+     *
+     * @param authentication 인증 객체
+     * @param request 북마크 대량 추가 요청
+     * @return BookmarkBatchResult 요청/추가된 항목 수
+     */
+    @PostMapping("/batch")
+    @Operation(summary = "북마크 대량 추가", description = "같은 타입의 항목 여러 개를 한 번에 북마크, 이미 북마크된 항목과 없는 항목은 건너뜀")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "처리 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    public ResponseEntity<BookmarkBatchResult> addBookmarks(
+            Authentication authentication,
+            @Valid @RequestBody BookmarkBatchRequest request) {
+        Long userId = authenticationHelper.getCurrentUserId(authentication);
+        logger.info("Adding bookmarks in batch. User ID: {}, Type: {}, Items: {}",
+                userId, request.getBookmarkType(), request.getItemIds().size());
+
+        BookmarkBatchResult result = bookmarkService.addBookmarks(userId, request.getBookmarkType(), request.getItemIds());
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 북마크 대량 삭제 - 북마크되지 않은 항목은 건너뜀
+     *
+     * @param authentication 인증 객체
+     * @param bookmarkType 북마크 타입
+     * @param itemIds 삭제할 항목 ID 목록 (쉼표로 구분)
+     * @return BookmarkBatchResult 요청/삭제된 항목 수
+     */
+    @DeleteMapping("/batch")
+    @Operation(summary = "북마크 대량 삭제", description = "같은 타입의 항목 여러 개의 북마크를 한 번에 삭제, 북마크되지 않은 항목은 건너뜀")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "처리 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    public ResponseEntity<BookmarkBatchResult> removeBookmarks(
+            Authentication authentication,
+            @RequestParam BookmarkType bookmarkType,
+            @RequestParam List<Long> itemIds) {
+        Long userId = authenticationHelper.getCurrentUserId(authentication);
+        if (itemIds.isEmpty() || itemIds.size() > BookmarkBatchRequest.MAX_ITEMS) {
+            throw new BadRequestException("itemIds must contain 1 to " + BookmarkBatchRequest.MAX_ITEMS + " IDs");
+        }
+        logger.info("Removing bookmarks in batch. User ID: {}, Type: {}, Items: {}", userId, bookmarkType, itemIds.size());
+
+        BookmarkBatchResult result = bookmarkService.removeBookmarks(userId, bookmarkType, itemIds);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * 북마크 여부 확인
      *
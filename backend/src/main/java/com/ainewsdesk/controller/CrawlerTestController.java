@@ -1,12 +1,15 @@
 package com.ainewsdesk.controller;
 
+import com.ainewsdesk.crawler.PlaywrightBrowserPool;
 import com.ainewsdesk.crawler.PlaywrightOpenAIBlogCrawler;
 import com.ainewsdesk.crawler.YouTubeAICrawler;
+import com.ainewsdesk.dto.ArticleIngestResult;
 import com.ainewsdesk.entity.Article;
-import com.ainewsdesk.repository.ArticleRepository;
+import com.ainewsdesk.service.ArticleService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -25,16 +28,28 @@ public class CrawlerTestController {
     private static final Logger log = LoggerFactory.getLogger(CrawlerTestController.class);
 
     private final PlaywrightOpenAIBlogCrawler playwrightCrawler;
+    private final PlaywrightBrowserPool browserPool;
     private final YouTubeAICrawler youtubeCrawler;
-    private final ArticleRepository articleRepository;
+    private final ArticleService articleService;
 
     public CrawlerTestController(
             PlaywrightOpenAIBlogCrawler playwrightCrawler,
+            PlaywrightBrowserPool browserPool,
             YouTubeAICrawler youtubeCrawler,
-            ArticleRepository articleRepository) {
+            ArticleService articleService) {
         this.playwrightCrawler = playwrightCrawler;
+        this.browserPool = browserPool;
         this.youtubeCrawler = youtubeCrawler;
-        this.articleRepository = articleRepository;
+        this.articleService = articleService;
+    }
+
+    /**
+     * Playwright 브라우저 풀 상태 조회
+     * GET /api/test/crawler/playwright/status
+     */
+    @GetMapping("/playwright/status")
+    public ResponseEntity<Map<String, Object>> getPlaywrightStatus() throws Exception {
+        return ResponseEntity.ok(browserPool.getStatus());
     }
 
     /**
@@ -55,14 +70,15 @@ public class CrawlerTestController {
 
             // DB에 저장
             if (!newArticles.isEmpty()) {
-                List<Article> savedArticles = articleRepository.saveAll(newArticles);
-                log.info("DB 저장 완료: {}개", savedArticles.size());
+                ArticleIngestResult result = articleService.saveCrawledArticles(newArticles);
+                log.info("DB 저장 완료: {}개, 중복 건너뜀: {}개", result.getInsertedCount(), result.getSkippedCount());
 
                 response.put("success", true);
                 response.put("message", "Playwright 크롤링 및 저장 완료");
                 response.put("crawler", "Playwright OpenAI Blog");
-                response.put("articleCount", savedArticles.size());
-                response.put("articles", savedArticles);
+                response.put("articleCount", result.getInsertedCount());
+                response.put("skippedCount", result.getSkippedCount());
+                response.put("articles", result.getInsertedArticles());
             } else {
                 response.put("success", true);
                 response.put("message", "새로운 기사 없음");
@@ -101,14 +117,15 @@ public class CrawlerTestController {
 
             // DB에 저장
             if (!newArticles.isEmpty()) {
-                List<Article> savedArticles = articleRepository.saveAll(newArticles);
-                log.info("DB 저장 완료: {}개", savedArticles.size());
+                ArticleIngestResult result = articleService.saveCrawledArticles(newArticles);
+                log.info("DB 저장 완료: {}개, 중복 건너뜀: {}개", result.getInsertedCount(), result.getSkippedCount());
 
                 response.put("success", true);
                 response.put("message", "YouTube 크롤링 및 저장 완료");
                 response.put("crawler", "YouTube AI Channels");
-                response.put("articleCount", savedArticles.size());
-                response.put("articles", savedArticles);
+                response.put("articleCount", result.getInsertedCount());
+                response.put("skippedCount", result.getSkippedCount());
+                response.put("articles", result.getInsertedArticles());
             } else {
                 response.put("success", true);
                 response.put("message", "새로운 동영상 없음");
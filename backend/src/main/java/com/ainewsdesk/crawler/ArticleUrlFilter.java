@@ -0,0 +1,242 @@
+package com.ainewsdesk.crawler;
+
+import com.ainewsdesk.entity.Article;
+import com.ainewsdesk.event.ArticleChangedEvent;
+import com.ainewsdesk.repository.ArticleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 크롤러 기사 URL 중복 필터
+ * <p>저장된 기사 URL의 블룸 필터를 메모리에 유지, 필터에 없는 URL은 DB 조회 없이 신규로 판정</p>
+ * <p>필터 양성(positive) URL만 IN 쿼리 1회로 실제 존재 여부 확인 (오탐 가능)</p>
+ * <p>기동 시 articles 테이블로 구성, 이후 {@link ArticleChangedEvent}로 추가 (삭제는 반영하지 않음 - 오탐만 증가)</p>
+ * <p>다른 인스턴스(이전 크롤러 리스 보유 노드)가 저장한 URL은 주기적으로 마지막 ID 이후를 읽어 보충,
+ * 보충 전까지는 미탐이 생길 수 있으나 저장 단계의 중복 무시로 걸러짐 (상세 페이지만 다시 수집)</p>
+ */
+@Component
+public class ArticleUrlFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ArticleUrlFilter.class);
+    private static final int WARM_UP_BATCH_SIZE = 1000;
+
+    // 늦게 커밋되어 ID 순서가 어긋난 행을 놓치지 않도록 보충 시 마지막 ID보다 이만큼 앞에서부터 다시 읽음
+    private static final long TOP_UP_ID_OVERLAP = 1000;
+
+    private final ArticleRepository articleRepository;
+    private final long expectedUrls;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter bloomFilter;
+    private volatile boolean ready = false;
+
+    // 필터에 반영한 가장 큰 기사 ID
+    private long lastId = 0L;
+
+    public ArticleUrlFilter(
+            ArticleRepository articleRepository,
+            @Value("${crawler.url-filter.expected-urls:100000}") long expectedUrls,
+            @Value("${crawler.url-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.articleRepository = articleRepository;
+        this.expectedUrls = expectedUrls;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new BloomFilter(expectedUrls, falsePositiveRate);
+    }
+
+    /**
+     * 기동 시 필터 구성 - 배치 단위로 URL 로드
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void warmUp() {
+        long startTime = System.currentTimeMillis();
+        ready = false;
+
+        try {
+            // 저장된 기사 수의 2배 이상을 수용하도록 크기 결정
+            long capacity = Math.max(expectedUrls, articleRepository.count() * 2);
+            BloomFilter filter = new BloomFilter(capacity, falsePositiveRate);
+            bloomFilter = filter;
+
+            lastId = 0L;
+            long loaded = loadAfter(filter, 0L);
+
+            ready = true;
+            log.info("기사 URL 필터 구성 완료. URL: {}개, 용량: {}, 소요: {}ms",
+                    loaded, capacity, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("기사 URL 필터 구성 실패. DB 조회로 중복 확인", e);
+        }
+    }
+
+    /**
+     * 주기적 보충 - 마지막으로 반영한 ID 이후(겹침 포함) 저장된 URL 추가
+     */
+    @Scheduled(fixedDelayString = "${crawler.url-filter.top-up-interval-ms:60000}",
+            initialDelayString = "${crawler.url-filter.top-up-interval-ms:60000}")
+    public synchronized void topUp() {
+        if (!ready) {
+            warmUp();
+            return;
+        }
+        try {
+            long before = lastId;
+            long loaded = loadAfter(bloomFilter, Math.max(0L, lastId - TOP_UP_ID_OVERLAP));
+            if (lastId > before) {
+                log.debug("기사 URL 필터 보충. 읽은 URL: {}개, 마지막 ID: {}", loaded, lastId);
+            }
+        } catch (Exception e) {
+            log.warn("기사 URL 필터 보충 실패. 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * afterId 이후 URL을 배치 단위로 읽어 필터에 추가, 읽은 URL 수 반환 - 잠금 보유 상태에서 호출
+     */
+    private long loadAfter(BloomFilter filter, long afterId) {
+        long cursor = afterId;
+        long loaded = 0;
+        List<Object[]> batch;
+        do {
+            batch = articleRepository.findUrlsAfterId(cursor, PageRequest.of(0, WARM_UP_BATCH_SIZE));
+            for (Object[] row : batch) {
+                cursor = (Long) row[0];
+                filter.put((String) row[1]);
+            }
+            loaded += batch.size();
+        } while (batch.size() == WARM_UP_BATCH_SIZE);
+        lastId = Math.max(lastId, cursor);
+        return loaded;
+    }
+
+    /**
+     * 기사 저장 시 URL 추가 - 트랜잭션 커밋 후 실행
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.getChangeType() != ArticleChangedEvent.ChangeType.SAVED) {
+            return;
+        }
+        for (Article article : event.getArticles()) {
+            add(article.getUrl());
+        }
+    }
+
+    /**
+     * URL 추가
+     */
+    public void add(String url) {
+        if (url != null) {
+            bloomFilter.put(url);
+        }
+    }
+
+    /**
+     * 주어진 URL 중 이미 저장된 URL 반환
+     * <p>필터 구성 전이면 전체를, 구성 후에는 필터 양성 URL만 DB로 확인</p>
+     */
+    public Set<String> findExisting(Collection<String> urls) {
+        Set<String> candidates = new LinkedHashSet<>();
+        BloomFilter filter = bloomFilter;
+        for (String url : urls) {
+            if (url != null && (!ready || filter.mightContain(url))) {
+                candidates.add(url);
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        Set<String> existing = new HashSet<>(articleRepository.findExistingUrls(candidates));
+        log.debug("URL 중복 확인 - 요청: {}, DB 확인: {}, 기존: {}", urls.size(), candidates.size(), existing.size());
+        return existing;
+    }
+
+    /**
+     * 필터 구성 완료 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 블룸 필터 - 비트 배열 + 이중 해싱, 잠금 없이 동시 추가/조회 가능
+     */
+    private static class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int hashCount;
+
+        BloomFilter(long expectedInsertions, double falsePositiveRate) {
+            long n = Math.max(1, expectedInsertions);
+            long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bitCount = Math.max(64, ((m + 63) / 64) * 64);
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+            this.bits = new AtomicLongArray((int) (bitCount / 64));
+        }
+
+        void put(String value) {
+            long hash = hash64(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = Math.floorMod((long) h1 + (long) i * h2, bitCount);
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long current;
+                do {
+                    current = bits.get(word);
+                    if ((current & mask) != 0) {
+                        break;
+                    }
+                } while (!bits.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        boolean mightContain(String value) {
+            long hash = hash64(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long index = Math.floorMod((long) h1 + (long) i * h2, bitCount);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * FNV-1a 64비트 해시 + 비트 혼합
+         */
+        private static long hash64(String value) {
+            long hash = 0xcbf29ce484222325L;
+            for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b;
+                hash *= 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb9fe1a85ec53L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.ainewsdesk.crawler;
+
+import com.ainewsdesk.entity.PageFetchMetadata;
+import org.jsoup.nodes.Document;
+
+/**
+ * 조건부 페이지 요청 결과
+ * <p>변경 없음(304 또는 본문 해시 동일)이면 문서 없이 상태만 전달</p>
+ * <p>갱신된 메타데이터는 처리가 끝난 뒤 {@link JsoupPageFetcher#markProcessed}로 저장</p>
+ */
+public class ConditionalFetchResult {
+
+    /**
+     * 조건부 요청 결과 상태
+     */
+    public enum Status {
+        NOT_MODIFIED,  // 304 응답
+        UNCHANGED,     // 200 응답이지만 본문 해시 동일
+        CHANGED        // 새 본문
+    }
+
+    private final Status status;
+    private final Document document;
+    private final PageFetchMetadata metadata;
+
+    ConditionalFetchResult(Status status, Document document, PageFetchMetadata metadata) {
+        this.status = status;
+        this.document = document;
+        this.metadata = metadata;
+    }
+
+    /**
+     * 본문 변경 여부
+     */
+    public boolean isChanged() {
+        return status == Status.CHANGED;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * 파싱된 문서 - 변경된 경우에만 존재
+     */
+    public Document getDocument() {
+        return document;
+    }
+
+    PageFetchMetadata getMetadata() {
+        return metadata;
+    }
+}
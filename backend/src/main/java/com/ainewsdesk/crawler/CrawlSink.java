@@ -0,0 +1,35 @@
+package com.ainewsdesk.crawler;
+
+import com.ainewsdesk.entity.Article;
+
+import java.util.function.Consumer;
+
+/**
+ * 스트리밍 크롤링 기사 전달 대상
+ * <p>기사 전달과 함께, 전달한 기사가 실제로 저장된 뒤에 실행할 작업(목록 메타데이터, 워터마크 기록 등)을 등록</p>
+ */
+public interface CrawlSink extends Consumer<Article> {
+
+    /**
+     * 지금까지 이 sink로 전달한 기사가 모두 저장된 뒤 실행할 작업 등록
+     * <p>저장에 실패하거나 확인할 수 없으면 실행되지 않음 (다음 크롤링에서 같은 구간을 다시 수집)</p>
+     */
+    void afterPersisted(Runnable action);
+
+    /**
+     * 저장 여부를 알 수 없는 단순 수집용 sink - 등록한 작업은 실행하지 않음
+     */
+    static CrawlSink collecting(Consumer<Article> consumer) {
+        return new CrawlSink() {
+            @Override
+            public void accept(Article article) {
+                consumer.accept(article);
+            }
+
+            @Override
+            public void afterPersisted(Runnable action) {
+                // 호출자가 저장 여부를 알려주지 않으므로 진행 상태를 기록하지 않음
+            }
+        };
+    }
+}
@@ -1,18 +1,32 @@
 package com.ainewsdesk.crawler;
 
 import com.ainewsdesk.entity.Article;
+
+import java.time.Duration;
 import java.util.List;
 
 /**
  * 웹 크롤러 서비스 인터페이스
+ * <p>구현 빈은 {@link com.ainewsdesk.service.CrawlerOrchestrator}가 자동으로 찾아 실행</p>
  */
 public interface CrawlerService {
 
     /**
      * 크롤링 수행 - 새 기사 목록 반환
+     * <p>반환한 기사의 저장 여부를 알 수 없으므로 목록 메타데이터/워터마크 등 진행 상태는 기록하지 않음</p>
      */
     List<Article> crawl();
 
+    /**
+     * 스트리밍 크롤링 - 기사를 추출하는 즉시 sink로 전달
+     * <p>sink는 저장이 밀리면 블로킹되고(역압), 수집이 중단되면 {@link java.util.concurrent.CancellationException}을 던짐</p>
+     * <p>진행 상태는 {@link CrawlSink#afterPersisted}로 등록하여 저장이 확인된 뒤에만 기록</p>
+     * <p>여러 스레드에서 동시에 호출해도 됨, 기본 구현은 {@link #crawl()} 결과를 한 번에 전달</p>
+     */
+    default void crawl(CrawlSink sink) {
+        crawl().forEach(sink);
+    }
+
     /**
      * 출처 타입 반환
      */
@@ -22,4 +36,11 @@ public interface CrawlerService {
      * 크롤러 이름 반환
      */
     String getCrawlerName();
+
+    /**
+     * 크롤링 제한 시간 - null이면 오케스트레이터 기본값 사용
+     */
+    default Duration getCrawlTimeout() {
+        return null;
+    }
 }
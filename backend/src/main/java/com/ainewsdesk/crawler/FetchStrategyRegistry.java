@@ -0,0 +1,87 @@
+package com.ainewsdesk.crawler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * URL 패턴별 수집 방식 기억 저장소
+ * <p>URL 패턴(호스트 + 첫 경로 구간)마다 마지막으로 성공한 수집 방식을 기억</p>
+ * <p>기억이 없거나 만료된 패턴은 가장 저렴한 방식(Jsoup)부터 다시 시도</p>
+ */
+@Component
+public class FetchStrategyRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(FetchStrategyRegistry.class);
+
+    /**
+     * 페이지 수집 방식 (저렴한 순)
+     */
+    public enum FetchStrategy {
+        JSOUP,    // 정적 HTML 요청 (서버 렌더링 페이지)
+        BROWSER   // Playwright 브라우저 렌더링
+    }
+
+    private final Duration ttl;
+    private final Map<String, Decision> decisions = new ConcurrentHashMap<>();
+
+    public FetchStrategyRegistry(@Value("${crawler.fetch-strategy.ttl-hours:24}") long ttlHours) {
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    /**
+     * URL에 기억된 수집 방식 반환 - 없거나 만료되면 null
+     */
+    public FetchStrategy get(String url) {
+        Decision decision = decisions.get(patternOf(url));
+        if (decision == null || decision.decidedAt.plus(ttl).isBefore(Instant.now())) {
+            return null;
+        }
+        return decision.strategy;
+    }
+
+    /**
+     * URL 패턴의 수집 방식 기록
+     */
+    public void record(String url, FetchStrategy strategy) {
+        String pattern = patternOf(url);
+        Decision previous = decisions.put(pattern, new Decision(strategy, Instant.now()));
+        if (previous == null || previous.strategy != strategy) {
+            log.info("수집 방식 결정: {} → {}", pattern, strategy);
+        }
+    }
+
+    /**
+     * URL 패턴 추출 - 호스트 + 첫 경로 구간 (예: openai.com/index)
+     */
+    static String patternOf(String url) {
+        try {
+            URI uri = URI.create(url);
+            String host = uri.getHost() != null ? uri.getHost().toLowerCase(Locale.ROOT) : "";
+            String path = uri.getPath() != null ? uri.getPath() : "";
+            String[] segments = path.split("/");
+            String firstSegment = segments.length > 1 ? segments[1] : "";
+            return host + "/" + firstSegment;
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+
+    private static class Decision {
+        private final FetchStrategy strategy;
+        private final Instant decidedAt;
+
+        Decision(FetchStrategy strategy, Instant decidedAt) {
+            this.strategy = strategy;
+            this.decidedAt = decidedAt;
+        }
+    }
+}
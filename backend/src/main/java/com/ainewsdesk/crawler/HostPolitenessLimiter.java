@@ -0,0 +1,58 @@
+package com.ainewsdesk.crawler;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호스트별 요청 간격 제한기
+ * <p>같은 호스트로 가는 요청 시작 사이에 최소 간격 보장, 다른 호스트 요청은 서로 영향 없음</p>
+ * <p>여러 크롤러가 공유하며 간격이 부족하면 다음 슬롯을 예약한 뒤 필요한 시간만큼 대기</p>
+ */
+@Component
+public class HostPolitenessLimiter {
+
+    private final long minIntervalNanos;
+
+    // 호스트 → 다음 요청 가능 시각 (System.nanoTime 기준)
+    private final Map<String, Long> nextAllowedNanos = new HashMap<>();
+
+    public HostPolitenessLimiter(@Value("${crawler.politeness.min-interval-ms:1000}") long minIntervalMillis) {
+        this.minIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, minIntervalMillis));
+    }
+
+    /**
+     * URL 호스트의 요청 슬롯 획득 - 간격이 부족하면 대기
+     */
+    public void acquire(String url) throws InterruptedException {
+        String host = hostOf(url);
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextAllowedNanos.getOrDefault(host, now));
+            nextAllowedNanos.put(host, slot + minIntervalNanos);
+            waitNanos = slot - now;
+        }
+
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * URL에서 호스트 추출 - 파싱 실패 시 URL 전체를 키로 사용
+     */
+    private String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host.toLowerCase(Locale.ROOT) : url;
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+}
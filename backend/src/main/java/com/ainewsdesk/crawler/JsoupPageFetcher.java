@@ -0,0 +1,130 @@
+package com.ainewsdesk.crawler;
+
+import com.ainewsdesk.entity.PageFetchMetadata;
+import com.ainewsdesk.repository.PageFetchMetadataRepository;
+import com.ainewsdesk.util.HashUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jsoup.Connection;
+import org.jsoup.HttpStatusException;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Jsoup 정적 페이지 수집기
+ * <p>브라우저 없이 HTTP 요청 1회로 HTML을 가져옴, 서버 렌더링 페이지용</p>
+ * <p>요청 전 호스트별 요청 간격 제한 적용</p>
+ * <p>URL별 ETag/Last-Modified/본문 해시를 저장해 두고 조건부 요청으로 변경 없는 페이지는 파싱 생략</p>
+ */
+@Component
+public class JsoupPageFetcher {
+
+    private static final Logger log = LoggerFactory.getLogger(JsoupPageFetcher.class);
+    private static final String USER_AGENT = "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36";
+
+    private final HostPolitenessLimiter politenessLimiter;
+    private final PageFetchMetadataRepository metadataRepository;
+    private final MeterRegistry meterRegistry;
+    private final int timeoutMillis;
+
+    public JsoupPageFetcher(
+            HostPolitenessLimiter politenessLimiter,
+            PageFetchMetadataRepository metadataRepository,
+            MeterRegistry meterRegistry,
+            @Value("${crawler.jsoup.timeout-ms:10000}") int timeoutMillis) {
+        this.politenessLimiter = politenessLimiter;
+        this.metadataRepository = metadataRepository;
+        this.meterRegistry = meterRegistry;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 페이지 HTML 조회
+     */
+    public Document fetch(String url) throws IOException, InterruptedException {
+        politenessLimiter.acquire(url);
+        return connect(url).get();
+    }
+
+    /**
+     * 조건부 페이지 조회 - 저장된 ETag/Last-Modified로 요청하고, 200이면 본문 해시로 변경 여부 재확인
+     * <p>메타데이터는 저장하지 않음, 처리 성공 후 {@link #markProcessed} 호출 필요</p>
+     */
+    public ConditionalFetchResult fetchIfChanged(String url) throws IOException, InterruptedException {
+        PageFetchMetadata metadata = metadataRepository.findById(url).orElseGet(() -> {
+            PageFetchMetadata created = new PageFetchMetadata();
+            created.setUrl(url);
+            return created;
+        });
+
+        Connection connection = connect(url).ignoreHttpErrors(true);
+        if (metadata.getEtag() != null) {
+            connection.header("If-None-Match", metadata.getEtag());
+        }
+        if (metadata.getLastModified() != null) {
+            connection.header("If-Modified-Since", metadata.getLastModified());
+        }
+
+        politenessLimiter.acquire(url);
+        Connection.Response response = connection.execute();
+        LocalDateTime now = LocalDateTime.now();
+        metadata.setLastFetchedAt(now);
+
+        if (response.statusCode() == 304) {
+            return result(url, ConditionalFetchResult.Status.NOT_MODIFIED, null, metadata);
+        }
+        if (response.statusCode() >= 400) {
+            throw new HttpStatusException("HTTP error fetching URL", response.statusCode(), url);
+        }
+
+        byte[] body = response.bodyAsBytes();
+        String contentHash = HashUtils.sha256Hex(body);
+        if (response.header("ETag") != null) {
+            metadata.setEtag(response.header("ETag"));
+        }
+        if (response.header("Last-Modified") != null) {
+            metadata.setLastModified(response.header("Last-Modified"));
+        }
+
+        if (contentHash.equals(metadata.getContentHash())) {
+            return result(url, ConditionalFetchResult.Status.UNCHANGED, null, metadata);
+        }
+
+        metadata.setContentHash(contentHash);
+        metadata.setLastChangedAt(now);
+        return result(url, ConditionalFetchResult.Status.CHANGED, response.parse(), metadata);
+    }
+
+    /**
+     * 처리 완료된 조회 결과의 메타데이터 저장 - 다음 조회부터 조건부 요청에 사용
+     */
+    public void markProcessed(ConditionalFetchResult result) {
+        metadataRepository.save(result.getMetadata());
+    }
+
+    /**
+     * 공통 요청 설정
+     */
+    private Connection connect(String url) {
+        return Jsoup.connect(url)
+                .userAgent(USER_AGENT)
+                .timeout(timeoutMillis)
+                .followRedirects(true);
+    }
+
+    /**
+     * 조회 결과 생성 및 지표 기록
+     */
+    private ConditionalFetchResult result(String url, ConditionalFetchResult.Status status,
+                                          Document document, PageFetchMetadata metadata) {
+        meterRegistry.counter("crawler.fetch.conditional", "status", status.name().toLowerCase()).increment();
+        log.debug("조건부 요청 결과: {} - {}", url, status);
+        return new ConditionalFetchResult(status, document, metadata);
+    }
+}
@@ -0,0 +1,427 @@
+package com.ainewsdesk.crawler;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.Request;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Playwright 브라우저 풀
+ * <p>Chromium을 한 번 띄워 재사용하고, 크롤링마다 BrowserContext만 새로 생성</p>
+ * <p>Playwright 객체는 스레드 안전하지 않으므로 전용 스레드 1개에서만 사용, 작업은 순서대로 실행</p>
+ * <p>작업이 제한 시간 안에 끝나지 않으면 전용 스레드를 새로 만들고 멈춘 스레드의 Playwright는 강제 종료</p>
+ * <p>주기적으로 연결 상태를 확인하여 끊긴 브라우저를 재기동하고, 유휴 시간이 길면 브라우저 종료</p>
+ */
+@Component
+public class PlaywrightBrowserPool {
+
+    private static final Logger log = LoggerFactory.getLogger(PlaywrightBrowserPool.class);
+    private static final String USER_AGENT = "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36";
+
+    private final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("playwright-browser-");
+    private final boolean warmOnStartup;
+    private final Duration idleTimeout;
+    private final Duration taskTimeout;
+    private final int maxPagesPerContext;
+
+    // 브라우저 스레드가 교체되어도 누적되는 통계
+    private final AtomicInteger launchCount = new AtomicInteger();
+    private final AtomicLong completedTasks = new AtomicLong();
+
+    private volatile Instant lastUsedAt = Instant.now();
+
+    // 현재 브라우저 스레드 - 작업이 제한 시간을 넘기면 새 스레드로 교체
+    private volatile BrowserThread current;
+
+    public PlaywrightBrowserPool(
+            @Value("${crawler.playwright.warm-on-startup:true}") boolean warmOnStartup,
+            @Value("${crawler.playwright.idle-timeout-minutes:60}") long idleTimeoutMinutes,
+            @Value("${crawler.playwright.task-timeout-seconds:300}") long taskTimeoutSeconds,
+            @Value("${crawler.playwright.max-pages-per-context:4}") int maxPagesPerContext) {
+        this.warmOnStartup = warmOnStartup;
+        this.idleTimeout = Duration.ofMinutes(idleTimeoutMinutes);
+        this.taskTimeout = Duration.ofSeconds(taskTimeoutSeconds);
+        this.maxPagesPerContext = Math.max(1, maxPagesPerContext);
+        this.current = new BrowserThread();
+    }
+
+    /**
+     * 기동 시 브라우저 미리 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!warmOnStartup) {
+            return;
+        }
+        BrowserThread worker = current;
+        worker.submit(() -> {
+            try {
+                worker.ensureBrowser();
+            } catch (Exception e) {
+                log.warn("Playwright 브라우저 사전 실행 실패 (첫 크롤링 시 재시도): {}", e.getMessage());
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 새 BrowserContext에서 작업 실행 - 작업이 끝나면 컨텍스트(와 열린 페이지) 종료
+     *
+     * @param task 브라우저 작업 (브라우저 전용 스레드에서 실행)
+     * @return 작업 결과
+     */
+    public <T> T withSession(Function<Session, T> task) throws Exception {
+        BrowserThread worker = current;
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        Future<T> future = worker.submit(() -> worker.runInSession(task, cancelled));
+        long deadlineNanos = System.nanoTime() + taskTimeout.toNanos();
+        try {
+            return future.get(taskTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            // 호출 스레드 중단 - 작업에 중단을 알리고 브라우저 스레드에서 실제로 끝날 때까지 대기
+            cancelled.set(true);
+            awaitCancelled(worker, future, deadlineNanos);
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (TimeoutException e) {
+            abandon(worker, future);
+            throw new IllegalStateException("Playwright 작업 시간 초과 (" + taskTimeout.getSeconds() + "초)", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 중단을 알린 작업이 끝날 때까지 대기 - 작업 제한 시간이 지나면 포기
+     * <p>Playwright 호출은 스레드 인터럽트로 멈추지 않으므로 세션의 중단 여부를 페이지 사이에서 확인하여 종료</p>
+     */
+    private void awaitCancelled(BrowserThread worker, Future<?> future, long deadlineNanos) {
+        while (true) {
+            try {
+                future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+                return;
+            } catch (InterruptedException e) {
+                // 이미 중단 요청을 받은 상태 - 작업 종료까지 계속 대기
+            } catch (ExecutionException | CancellationException e) {
+                return;
+            } catch (TimeoutException e) {
+                abandon(worker, future);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 제한 시간을 넘긴 작업 포기 - 멈춘 스레드를 거치지 않고 복구
+     * <p>이후 작업은 새 브라우저 스레드에서 실행하고(브라우저는 첫 작업 때 실행), 멈춘 스레드의 Playwright는 강제 종료</p>
+     */
+    private void abandon(BrowserThread worker, Future<?> future) {
+        future.cancel(true);
+        synchronized (this) {
+            if (current == worker) {
+                current = new BrowserThread();
+            }
+        }
+        log.warn("Playwright 작업이 응답하지 않아 브라우저 스레드 교체");
+        worker.terminate();
+    }
+
+    /**
+     * 브라우저 상태 조회
+     */
+    public Map<String, Object> getStatus() throws Exception {
+        BrowserThread worker = current;
+        return worker.submit(() -> {
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("running", worker.browser != null && worker.browser.isConnected());
+            status.put("launchedAt", worker.launchedAt);
+            status.put("launchCount", launchCount.get());
+            status.put("completedTasks", completedTasks.get());
+            status.put("openContexts", worker.browser != null && worker.browser.isConnected()
+                    ? worker.browser.contexts().size() : 0);
+            status.put("lastUsedAt", lastUsedAt);
+            status.put("maxPagesPerContext", maxPagesPerContext);
+            return status;
+        }).get(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 연결 상태 확인 및 유휴 브라우저 종료 - 1분마다
+     */
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    public void checkHealth() {
+        BrowserThread worker = current;
+        worker.submit(() -> {
+            if (worker.browser == null) {
+                return null;
+            }
+            if (!worker.browser.isConnected()) {
+                log.warn("Playwright 브라우저 연결 끊김 - 다음 작업 시 재기동");
+                worker.closeBrowser();
+            } else if (Duration.between(lastUsedAt, Instant.now()).compareTo(idleTimeout) > 0) {
+                log.info("Playwright 브라우저 유휴 시간 초과로 종료 (마지막 사용: {})", lastUsedAt);
+                worker.closeBrowser();
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 종료 시 브라우저 정리 - 작업이 멈춰 있으면 강제 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        BrowserThread worker = current;
+        try {
+            worker.submit(() -> {
+                worker.closeBrowser();
+                return null;
+            }).get(10, TimeUnit.SECONDS);
+            worker.executor.shutdownNow();
+        } catch (Exception e) {
+            log.warn("Playwright 브라우저 종료 중 오류: {}", e.getMessage());
+            worker.terminate();
+        }
+    }
+
+    /**
+     * 브라우저 전용 스레드와 그 스레드가 소유한 Playwright/브라우저
+     * <p>playwright/browser/launchedAt은 이 스레드에서만 사용, terminate만 다른 스레드에서 호출</p>
+     */
+    private final class BrowserThread {
+
+        private final ExecutorService executor = Executors.newSingleThreadExecutor(threadFactory);
+
+        private volatile Playwright playwright;
+        private volatile Browser browser;
+        private volatile boolean terminated = false;
+        private Instant launchedAt;
+
+        private <T> Future<T> submit(Callable<T> task) {
+            return executor.submit(task);
+        }
+
+        /**
+         * 컨텍스트 생성 후 작업 실행 - 브라우저 스레드에서 호출
+         */
+        private <T> T runInSession(Function<Session, T> task, AtomicBoolean cancelled) {
+            ensureBrowser();
+            lastUsedAt = Instant.now();
+
+            BrowserContext context = browser.newContext(new Browser.NewContextOptions()
+                    .setUserAgent(USER_AGENT)
+                    .setViewportSize(1920, 1080)
+            );
+            try {
+                return task.apply(new Session(context, maxPagesPerContext, cancelled));
+            } finally {
+                try {
+                    context.close();
+                } catch (Exception e) {
+                    log.warn("BrowserContext 종료 중 오류: {}", e.getMessage());
+                }
+                completedTasks.incrementAndGet();
+                lastUsedAt = Instant.now();
+            }
+        }
+
+        /**
+         * 브라우저가 없거나 끊겼으면 실행 - 브라우저 스레드에서 호출
+         */
+        private void ensureBrowser() {
+            if (browser != null && browser.isConnected()) {
+                return;
+            }
+            closeBrowser();
+
+            long startTime = System.currentTimeMillis();
+            playwright = Playwright.create();
+            if (terminated) {
+                // 실행 도중 교체된 스레드 - 새로 만든 Playwright를 남기지 않음
+                closeBrowser();
+                throw new CancellationException("Playwright 브라우저 스레드가 교체됨");
+            }
+            browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
+                    .setHeadless(true)
+                    .setArgs(List.of(
+                            "--disable-blink-features=AutomationControlled",
+                            "--disable-dev-shm-usage",
+                            "--no-sandbox"
+                    ))
+            );
+            launchedAt = Instant.now();
+            int launches = launchCount.incrementAndGet();
+            log.info("Playwright 브라우저 실행 완료 ({}ms, 누적 실행: {}회)", System.currentTimeMillis() - startTime, launches);
+        }
+
+        /**
+         * 브라우저 및 Playwright 종료 - 브라우저 스레드에서 호출
+         */
+        private void closeBrowser() {
+            if (browser != null) {
+                try {
+                    browser.close();
+                    log.debug("브라우저 종료 완료");
+                } catch (Exception e) {
+                    log.warn("브라우저 종료 중 오류: {}", e.getMessage());
+                }
+                browser = null;
+            }
+            if (playwright != null) {
+                try {
+                    playwright.close();
+                    log.debug("Playwright 종료 완료");
+                } catch (Exception e) {
+                    log.warn("Playwright 종료 중 오류: {}", e.getMessage());
+                }
+                playwright = null;
+            }
+        }
+
+        /**
+         * 멈춘 스레드 정리 - 호출한 쪽을 막지 않도록 별도 데몬 스레드에서 Playwright 종료
+         * <p>Playwright를 닫으면 드라이버 연결이 끊겨 브라우저 프로세스가 종료되고, 응답을 기다리던 작업도 예외로 깨어남</p>
+         */
+        private void terminate() {
+            terminated = true;
+            executor.shutdownNow();
+            Playwright hung = playwright;
+            if (hung == null) {
+                return;
+            }
+            Thread reaper = new Thread(() -> {
+                try {
+                    hung.close();
+                    log.info("응답 없는 Playwright 강제 종료 완료");
+                } catch (Exception e) {
+                    log.warn("응답 없는 Playwright 종료 중 오류: {}", e.getMessage());
+                }
+            }, "playwright-reaper");
+            reaper.setDaemon(true);
+            reaper.start();
+        }
+    }
+
+    /**
+     * 크롤링 1회분 브라우저 세션
+     * <p>컨텍스트당 동시에 열 수 있는 페이지 수 제한</p>
+     */
+    public static class Session {
+
+        private static final Set<String> BLOCKED_RESOURCE_TYPES = Set.of("image", "media", "font");
+
+        private final BrowserContext context;
+        private final int maxPages;
+        private final AtomicBoolean cancelled;
+        private int blockedRequests = 0;
+
+        Session(BrowserContext context, int maxPages, AtomicBoolean cancelled) {
+            this.context = context;
+            this.maxPages = maxPages;
+            this.cancelled = cancelled;
+        }
+
+        /**
+         * 요청한 스레드가 중단되었는지 여부 - 작업은 페이지 사이에서 확인하여 일찍 종료
+         */
+        public boolean isCancelled() {
+            return cancelled.get();
+        }
+
+        /**
+         * 새 페이지 생성 - 열린 페이지 수가 한도에 도달하면 예외
+         */
+        public Page newPage() {
+            if (context.pages().size() >= maxPages) {
+                throw new IllegalStateException("컨텍스트당 최대 페이지 수 초과: " + maxPages);
+            }
+            return context.newPage();
+        }
+
+        /**
+         * 무거운 리소스 요청 차단 - 이미지/미디어/폰트와 외부 도메인 스크립트
+         * <p>텍스트 추출에 필요 없는 요청을 네트워크 단계에서 중단하여 로드 시간과 대역폭 절감</p>
+         *
+         * @param firstPartyDomain 스크립트를 허용할 도메인 (하위 도메인 포함, 예: openai.com)
+         */
+        public void blockHeavyResources(String firstPartyDomain) {
+            context.route("**/*", route -> {
+                Request request = route.request();
+                String resourceType = request.resourceType();
+                boolean blocked = BLOCKED_RESOURCE_TYPES.contains(resourceType)
+                        || ("script".equals(resourceType) && !isFirstParty(request.url(), firstPartyDomain));
+                if (blocked) {
+                    blockedRequests++;
+                    route.abort();
+                } else {
+                    route.resume();
+                }
+            });
+        }
+
+        /**
+         * 차단한 요청 수
+         */
+        public int getBlockedRequests() {
+            return blockedRequests;
+        }
+
+        /**
+         * 컨텍스트당 최대 페이지 수
+         */
+        public int getMaxPages() {
+            return maxPages;
+        }
+
+        /**
+         * 브라우저 컨텍스트
+         */
+        public BrowserContext getContext() {
+            return context;
+        }
+
+        private static boolean isFirstParty(String url, String domain) {
+            try {
+                String host = URI.create(url).getHost();
+                return host != null && (host.equals(domain) || host.endsWith("." + domain));
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+    }
+}
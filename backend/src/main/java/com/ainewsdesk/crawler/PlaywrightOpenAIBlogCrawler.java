@@ -1,21 +1,41 @@
 package com.ainewsdesk.crawler;
 
+import com.ainewsdesk.crawler.FetchStrategyRegistry.FetchStrategy;
 import com.ainewsdesk.entity.Article;
-import com.ainewsdesk.repository.ArticleRepository;
-import com.microsoft.playwright.*;
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.TimeoutError;
+import com.microsoft.playwright.options.WaitForSelectorState;
 import com.microsoft.playwright.options.WaitUntilState;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Playwright OpenAI 블로그 크롤러
  * <p>JavaScript 렌더링 페이지 크롤링</p>
+ * <p>브라우저는 {@link PlaywrightBrowserPool}에서 공유, 크롤링마다 새 BrowserContext 사용</p>
+ * <p>상세 페이지는 한 컨텍스트에서 여러 페이지로 동시에 로드, 호스트별 요청 간격 준수</p>
+ * <p>URL 패턴별로 Jsoup(정적 HTML) → 브라우저 순으로 가장 저렴한 수집 방식을 골라 기억, 브라우저는 이미지/폰트/외부 스크립트 차단</p>
+ * <p>Jsoup 목록은 조건부 요청으로 조회하여 변경이 없으면 크롤링 생략</p>
  */
 @Service
 public class PlaywrightOpenAIBlogCrawler implements CrawlerService {
@@ -24,145 +44,354 @@ public class PlaywrightOpenAIBlogCrawler implements CrawlerService {
     private static final String BLOG_URL = "https://openai.com/blog";
     private static final int MAX_ARTICLES = 10; // 한 번에 수집할 최대 기사 수
     private static final int PAGE_LOAD_TIMEOUT = 30000; // 30초
-
-    private final ArticleRepository articleRepository;
-
-    public PlaywrightOpenAIBlogCrawler(ArticleRepository articleRepository) {
-        this.articleRepository = articleRepository;
+    private static final int CONTENT_READY_TIMEOUT = 5000; // 5초
+    private static final String ARTICLE_CARD_SELECTOR = "article, [class*='blog-post'], [class*='post-card']";
+    private static final String CONTENT_READY_SELECTOR = "article, [class*='article-content'], [class*='post-content'], main, [role='main']";
+    private static final String FIRST_PARTY_DOMAIN = "openai.com";
+
+    // 제목/본문/카테고리 후보 selector (우선순위 순)
+    private static final String[] TITLE_SELECTORS = {"h2", "h3", ".title", "[class*='title']", "a"};
+    private static final String[] CONTENT_SELECTORS = {
+            "article",
+            "[class*='article-content']",
+            "[class*='post-content']",
+            "main",
+            "[role='main']"
+    };
+    private static final String[] CATEGORY_SELECTORS = {".category", ".tag", "[class*='category']"};
+
+    private final PlaywrightBrowserPool browserPool;
+    private final JsoupPageFetcher jsoupPageFetcher;
+    private final FetchStrategyRegistry strategyRegistry;
+    private final ArticleUrlFilter articleUrlFilter;
+    private final HostPolitenessLimiter politenessLimiter;
+    private final MeterRegistry meterRegistry;
+    private final int detailConcurrency;
+
+    public PlaywrightOpenAIBlogCrawler(
+            PlaywrightBrowserPool browserPool,
+            JsoupPageFetcher jsoupPageFetcher,
+            FetchStrategyRegistry strategyRegistry,
+            ArticleUrlFilter articleUrlFilter,
+            HostPolitenessLimiter politenessLimiter,
+            MeterRegistry meterRegistry,
+            @Value("${crawler.playwright.detail-concurrency:3}") int detailConcurrency) {
+        this.browserPool = browserPool;
+        this.jsoupPageFetcher = jsoupPageFetcher;
+        this.strategyRegistry = strategyRegistry;
+        this.articleUrlFilter = articleUrlFilter;
+        this.politenessLimiter = politenessLimiter;
+        this.meterRegistry = meterRegistry;
+        this.detailConcurrency = detailConcurrency;
     }
 
     @Override
     public List<Article> crawl() {
-        log.info("Playwright를 사용한 OpenAI 블로그 크롤링 시작: {}", BLOG_URL);
         List<Article> newArticles = new ArrayList<>();
+        crawl(CrawlSink.collecting(newArticles::add));
+        return newArticles;
+    }
 
-        Playwright playwright = null;
-        Browser browser = null;
+    /**
+     * 스트리밍 크롤링 - 기사 상세 정보를 수집하는 즉시 sink로 전달
+     */
+    @Override
+    public void crawl(CrawlSink sink) {
+        log.info("Playwright를 사용한 OpenAI 블로그 크롤링 시작: {}", BLOG_URL);
+        int emitted = 0;
 
         try {
-            // Playwright 초기화
-            playwright = Playwright.create();
+            // 기사 목록 수집 (URL → 제목)
+            Listing listing = fetchListing();
+            if (listing.fetchResult != null && !listing.fetchResult.isChanged()) {
+                log.info("목록 페이지 변경 없음 ({}) - 크롤링 생략", listing.fetchResult.getStatus());
+                // 확인 시각만 갱신 (이전에 저장이 확인된 본문과 동일)
+                jsoupPageFetcher.markProcessed(listing.fetchResult);
+                return;
+            }
+            Map<String, String> candidates = listing.candidates;
 
-            // 브라우저 실행 (Headless 모드)
-            browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
-                    .setHeadless(true)
-                    .setArgs(List.of(
-                            "--disable-blink-features=AutomationControlled",
-                            "--disable-dev-shm-usage",
-                            "--no-sandbox"
-                    ))
-            );
+            // 중복 체크 - 후보 전체를 한 번에 확인
+            Set<String> existingUrls = articleUrlFilter.findExisting(candidates.keySet());
+            log.info("기사 후보: {}개, 이미 존재: {}개", candidates.size(), existingUrls.size());
 
-            // 새 페이지 생성
-            BrowserContext context = browser.newContext(new Browser.NewContextOptions()
-                    .setUserAgent("Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36")
-                    .setViewportSize(1920, 1080)
-            );
+            Map<String, String> targets = new LinkedHashMap<>();
+            for (Map.Entry<String, String> candidate : candidates.entrySet()) {
+                if (existingUrls.contains(candidate.getKey())) {
+                    log.debug("이미 존재하는 기사 건너뜀: {}", candidate.getValue());
+                    continue;
+                }
+                log.info("새로운 기사 발견: {} ({})", candidate.getValue(), candidate.getKey());
+                targets.put(candidate.getKey(), candidate.getValue());
+            }
 
-            Page page = context.newPage();
-            page.setDefaultTimeout(PAGE_LOAD_TIMEOUT);
+            // 새 기사 상세 정보 수집
+            if (!targets.isEmpty()) {
+                emitted = fetchArticles(targets, sink);
+            }
 
-            log.info("브라우저 페이지 생성 완료, OpenAI 블로그 로딩 시작...");
+            // 모든 새 기사를 수집하고 저장까지 확인된 경우에만 목록 메타데이터 저장
+            // (수집/저장에 실패한 기사는 목록이 UNCHANGED로 생략되지 않아 다음 크롤링에서 재시도)
+            if (listing.fetchResult != null && emitted == targets.size()) {
+                ConditionalFetchResult fetchResult = listing.fetchResult;
+                sink.afterPersisted(() -> jsoupPageFetcher.markProcessed(fetchResult));
+            }
+            log.info("Playwright 크롤링 완료. 새로운 기사: {}개", emitted);
 
-            // 블로그 페이지 접속
-            page.navigate(BLOG_URL, new Page.NavigateOptions().setWaitUntil(WaitUntilState.NETWORKIDLE));
+        } catch (CancellationException e) {
+            // 수집 중단 (시간 초과 등) - 이미 전달한 기사는 유지
+            throw e;
 
-            log.info("OpenAI 블로그 페이지 로드 완료");
+        } catch (InterruptedException e) {
+            // 오케스트레이터의 시간 초과 중단 - 더미 기사를 만들지 않고 중단
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Playwright 크롤링 중단");
 
-            // 페이지가 완전히 로드될 때까지 대기 (동적 콘텐츠)
-            page.waitForTimeout(3000);
+        } catch (Exception e) {
+            log.error("Playwright 크롤링 중 오류 발생: {}", e.getMessage(), e);
 
-            // 기사 목록 추출
-            // OpenAI 블로그의 실제 구조에 맞게 selector를 조정해야 합니다
-            Locator articleCards = page.locator("article, [class*='blog-post'], [class*='post-card']");
-            int articleCount = articleCards.count();
+            // 테스트 모드: 크롤링 실패 시 더미 기사 생성
+            log.info("테스트 모드: 더미 기사 생성");
+            createTestArticles().forEach(sink);
+        }
+    }
 
-            log.info("발견된 기사 카드 수: {}", articleCount);
+    /**
+     * 기사 목록 수집 - 기억된 방식이 브라우저가 아니면 Jsoup 조건부 요청 먼저 시도
+     */
+    private Listing fetchListing() throws Exception {
+        if (strategyRegistry.get(BLOG_URL) != FetchStrategy.BROWSER) {
+            try {
+                ConditionalFetchResult fetchResult = jsoupPageFetcher.fetchIfChanged(BLOG_URL);
+                if (!fetchResult.isChanged()) {
+                    // 이전에 Jsoup으로 처리한 본문과 동일
+                    return new Listing(new LinkedHashMap<>(), fetchResult);
+                }
+                Map<String, String> candidates = parseCandidates(fetchResult.getDocument());
+                if (!candidates.isEmpty()) {
+                    strategyRegistry.record(BLOG_URL, FetchStrategy.JSOUP);
+                    return new Listing(candidates, fetchResult);
+                }
+            } catch (IOException e) {
+                log.info("Jsoup 목록 수집 실패, 브라우저로 전환: {}", e.getMessage());
+            }
+            strategyRegistry.record(BLOG_URL, FetchStrategy.BROWSER);
+        }
+        // 브라우저 렌더링 페이지는 HTML 껍데기가 같아도 내용이 바뀔 수 있으므로 조건부 생략 없음
+        return new Listing(browserPool.withSession(this::fetchCandidatesWithBrowser), null);
+    }
 
-            if (articleCount == 0) {
-                log.warn("기사를 찾을 수 없습니다. 페이지 구조를 확인하세요.");
-                log.info("페이지 HTML 일부:\n{}", page.content().substring(0, Math.min(1000, page.content().length())));
+    /**
+     * Jsoup 문서에서 기사 목록 추출 - 카드를 찾지 못하면 빈 목록 (클라이언트 렌더링 페이지)
+     */
+    private Map<String, String> parseCandidates(Document document) {
+        Map<String, String> candidates = new LinkedHashMap<>();
+        Elements articleCards = document.select(ARTICLE_CARD_SELECTOR);
+        log.info("Jsoup 기사 카드 수: {}", articleCards.size());
+
+        for (Element articleCard : articleCards) {
+            if (candidates.size() >= MAX_ARTICLES) {
+                break;
             }
+            String title = firstText(articleCard, TITLE_SELECTORS);
+            Element link = articleCard.selectFirst("a[href]");
+            String articleUrl = link != null ? link.absUrl("href") : "";
+            if (title == null || articleUrl.isEmpty()) {
+                continue;
+            }
+            candidates.putIfAbsent(articleUrl, title);
+        }
+        return candidates;
+    }
 
-            // 각 기사 카드에서 정보 추출
-            int processedCount = 0;
-            for (int i = 0; i < Math.min(articleCount, MAX_ARTICLES); i++) {
-                try {
-                    Locator articleCard = articleCards.nth(i);
+    /**
+     * 브라우저로 기사 목록 수집 - 브라우저 풀 세션에서 실행
+     */
+    private Map<String, String> fetchCandidatesWithBrowser(PlaywrightBrowserPool.Session session) {
+        session.blockHeavyResources(FIRST_PARTY_DOMAIN);
 
-                    // 제목 추출
-                    String title = extractTitle(articleCard);
-                    if (title == null || title.isEmpty()) {
-                        log.debug("제목을 찾을 수 없어 건너뜀 (인덱스: {})", i);
-                        continue;
-                    }
+        Page page = session.newPage();
+        page.setDefaultTimeout(PAGE_LOAD_TIMEOUT);
 
-                    // URL 추출
-                    String articleUrl = extractUrl(articleCard);
-                    if (articleUrl == null || articleUrl.isEmpty()) {
-                        log.debug("URL을 찾을 수 없어 건너뜀: {}", title);
-                        continue;
-                    }
+        log.info("브라우저 페이지 생성 완료, OpenAI 블로그 로딩 시작...");
 
-                    // 절대 URL로 변환
-                    if (!articleUrl.startsWith("http")) {
-                        articleUrl = "https://openai.com" + articleUrl;
-                    }
+        // 블로그 페이지 접속 (DOM 로드까지만 대기, 나머지는 카드 요소 대기로 판단)
+        page.navigate(BLOG_URL, new Page.NavigateOptions().setWaitUntil(WaitUntilState.DOMCONTENTLOADED));
 
-                    // 중복 체크
-                    if (articleRepository.existsByUrl(articleUrl)) {
-                        log.debug("이미 존재하는 기사 건너뜀: {}", title);
-                        continue;
-                    }
+        log.info("OpenAI 블로그 페이지 로드 완료");
 
-                    log.info("새로운 기사 발견: {} ({})", title, articleUrl);
+        // 기사 카드가 렌더링될 때까지 대기 (동적 콘텐츠)
+        try {
+            page.waitForSelector(ARTICLE_CARD_SELECTOR, new Page.WaitForSelectorOptions()
+                    .setState(WaitForSelectorState.ATTACHED)
+                    .setTimeout(CONTENT_READY_TIMEOUT));
+        } catch (TimeoutError e) {
+            log.debug("기사 카드 대기 시간 초과");
+        }
 
-                    // 기사 상세 정보 추출
-                    Article article = extractArticleDetails(context, articleUrl, title);
-                    if (article != null) {
-                        newArticles.add(article);
-                        processedCount++;
-                        log.info("기사 추가 완료 ({}/{}): {}", processedCount, MAX_ARTICLES, title);
-                    }
+        // 기사 목록 추출
+        // OpenAI 블로그의 실제 구조에 맞게 selector를 조정해야 합니다
+        Locator articleCards = page.locator(ARTICLE_CARD_SELECTOR);
+        int articleCount = articleCards.count();
 
-                    // Rate limiting (너무 빠른 요청 방지)
-                    Thread.sleep(2000);
+        log.info("발견된 기사 카드 수: {}", articleCount);
 
-                } catch (Exception e) {
-                    log.error("개별 기사 처리 중 오류 (인덱스: {}): {}", i, e.getMessage(), e);
+        if (articleCount == 0) {
+            log.warn("기사를 찾을 수 없습니다. 페이지 구조를 확인하세요.");
+            log.info("페이지 HTML 일부:\n{}", page.content().substring(0, Math.min(1000, page.content().length())));
+        }
+
+        // 각 기사 카드에서 제목/URL 추출 (URL → 제목)
+        Map<String, String> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < Math.min(articleCount, MAX_ARTICLES); i++) {
+            try {
+                Locator articleCard = articleCards.nth(i);
+
+                // 제목 추출
+                String title = extractTitle(articleCard);
+                if (title == null || title.isEmpty()) {
+                    log.debug("제목을 찾을 수 없어 건너뜀 (인덱스: {})", i);
+                    continue;
                 }
-            }
 
-            log.info("Playwright 크롤링 완료. 새로운 기사: {}개", newArticles.size());
+                // URL 추출
+                String articleUrl = extractUrl(articleCard);
+                if (articleUrl == null || articleUrl.isEmpty()) {
+                    log.debug("URL을 찾을 수 없어 건너뜀: {}", title);
+                    continue;
+                }
 
-        } catch (Exception e) {
-            log.error("Playwright 크롤링 중 오류 발생: {}", e.getMessage(), e);
+                // 절대 URL로 변환
+                if (!articleUrl.startsWith("http")) {
+                    articleUrl = "https://openai.com" + articleUrl;
+                }
 
-            // 테스트 모드: 크롤링 실패 시 더미 기사 생성
-            log.info("테스트 모드: 더미 기사 생성");
-            newArticles.addAll(createTestArticles());
+                candidates.putIfAbsent(articleUrl, title);
 
-        } finally {
-            // 리소스 정리
-            if (browser != null) {
-                try {
-                    browser.close();
-                    log.debug("브라우저 종료 완료");
-                } catch (Exception e) {
-                    log.warn("브라우저 종료 중 오류: {}", e.getMessage());
+            } catch (Exception e) {
+                log.error("개별 기사 처리 중 오류 (인덱스: {}): {}", i, e.getMessage(), e);
+            }
+        }
+
+        log.debug("차단한 리소스 요청: {}개", session.getBlockedRequests());
+        return candidates;
+    }
+
+    /**
+     * 기사 상세 정보 수집 - URL 패턴별로 기억된 가장 저렴한 방식 사용
+     * <p>Jsoup으로 본문을 얻지 못한 기사만 브라우저 세션 1개에서 모아서 수집</p>
+     *
+     * @param targets URL → 제목
+     * @return sink로 전달한 기사 수
+     */
+    private int fetchArticles(Map<String, String> targets, CrawlSink sink) throws Exception {
+        int emitted = 0;
+        Map<String, String> browserTargets = new LinkedHashMap<>();
+
+        for (Map.Entry<String, String> target : targets.entrySet()) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException("Playwright 크롤링 중단");
+            }
+            String url = target.getKey();
+            String title = target.getValue();
+            if (strategyRegistry.get(url) != FetchStrategy.BROWSER) {
+                long startNanos = System.nanoTime();
+                Article article = fetchArticleWithJsoup(url, title);
+                articleFetchTimer(FetchStrategy.JSOUP, article != null ? "success" : "failure")
+                        .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                if (article != null) {
+                    strategyRegistry.record(url, FetchStrategy.JSOUP);
+                    sink.accept(article);
+                    emitted++;
+                    log.info("기사 추가 완료 (Jsoup): {}", title);
+                    continue;
                 }
+                strategyRegistry.record(url, FetchStrategy.BROWSER);
             }
-            if (playwright != null) {
-                try {
-                    playwright.close();
-                    log.debug("Playwright 종료 완료");
-                } catch (Exception e) {
-                    log.warn("Playwright 종료 중 오류: {}", e.getMessage());
+            browserTargets.put(url, title);
+        }
+
+        if (!browserTargets.isEmpty()) {
+            // 브라우저 스레드는 하나뿐이므로 세션 안에서는 모으기만 하고, sink 대기(역압)는 세션이 끝난 뒤 이 스레드에서
+            List<Article> browserArticles = browserPool.withSession(session -> {
+                session.blockHeavyResources(FIRST_PARTY_DOMAIN);
+                List<Article> extracted = extractArticleDetails(session, browserTargets);
+                log.debug("차단한 리소스 요청: {}개", session.getBlockedRequests());
+                return extracted;
+            });
+            for (Article article : browserArticles) {
+                sink.accept(article);
+                emitted++;
+            }
+        }
+
+        return emitted;
+    }
+
+    /**
+     * Jsoup으로 기사 상세 정보 수집 - 서버 렌더링 본문이 없으면 null
+     */
+    private Article fetchArticleWithJsoup(String url, String title) throws InterruptedException {
+        try {
+            Document document = jsoupPageFetcher.fetch(url);
+
+            String content = null;
+            for (String selector : CONTENT_SELECTORS) {
+                Element contentElement = document.selectFirst(selector);
+                if (contentElement != null && contentElement.text().length() > 100) {
+                    content = contentElement.text();
+                    break;
                 }
             }
+            if (content == null) {
+                log.debug("Jsoup 본문 없음 (클라이언트 렌더링 추정): {}", url);
+                return null;
+            }
+
+            Element time = document.selectFirst("time[datetime]");
+            Element metaDate = document.selectFirst("meta[property='article:published_time']");
+            LocalDateTime publishedDate = parseDateTime(time != null ? time.attr("datetime")
+                    : metaDate != null ? metaDate.attr("content") : null);
+
+            String category = firstText(document, CATEGORY_SELECTORS);
+            Element metaCategory = document.selectFirst("meta[property='article:section']");
+            if (category == null && metaCategory != null && !metaCategory.attr("content").isEmpty()) {
+                category = metaCategory.attr("content");
+            }
+
+            return buildArticle(url, title, content, publishedDate, category);
+
+        } catch (IOException e) {
+            log.debug("Jsoup 상세 수집 실패 ({}): {}", url, e.getMessage());
+            return null;
         }
+    }
 
-        return newArticles;
+    /**
+     * 요소 안에서 selector 순서대로 첫 번째 비어 있지 않은 텍스트 반환
+     */
+    private String firstText(Element root, String[] selectors) {
+        for (String selector : selectors) {
+            Element element = root.selectFirst(selector);
+            if (element != null && !element.text().trim().isEmpty()) {
+                return element.text().trim();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * ISO 날짜 문자열 변환 - 없거나 형식 오류면 현재 시간
+     */
+    private LocalDateTime parseDateTime(String value) {
+        if (value != null && !value.isEmpty()) {
+            try {
+                return LocalDateTime.parse(value, DateTimeFormatter.ISO_DATE_TIME);
+            } catch (DateTimeParseException e) {
+                log.debug("발행일 형식 오류: {}", value);
+            }
+        }
+        return LocalDateTime.now();
     }
 
     /**
@@ -171,9 +400,7 @@ public class PlaywrightOpenAIBlogCrawler implements CrawlerService {
     private String extractTitle(Locator articleCard) {
         try {
             // 여러 가능한 selector 시도
-            String[] titleSelectors = {"h2", "h3", ".title", "[class*='title']", "a"};
-
-            for (String selector : titleSelectors) {
+            for (String selector : TITLE_SELECTORS) {
                 try {
                     Locator titleElement = articleCard.locator(selector).first();
                     if (titleElement.count() > 0) {
@@ -220,19 +447,103 @@ public class PlaywrightOpenAIBlogCrawler implements CrawlerService {
     }
 
     /**
-     * 기사 상세 페이지 정보 추출
+     * 기사 상세 페이지 정보 추출 - 최대 detailConcurrency개 페이지에서 동시에 로드
+     * <p>배치 단위로 모든 페이지의 이동을 먼저 시작한 뒤 순서대로 로드 완료를 기다려 추출</p>
+     *
+     * @param targets URL → 제목
+     * @return 추출한 기사 목록
      */
-    private Article extractArticleDetails(BrowserContext context, String url, String title) {
-        Page detailPage = null;
+    private List<Article> extractArticleDetails(PlaywrightBrowserPool.Session session, Map<String, String> targets) {
+        List<Article> extracted = new ArrayList<>();
+        List<Map.Entry<String, String>> entries = new ArrayList<>(targets.entrySet());
+        int concurrency = Math.max(1, Math.min(detailConcurrency, Math.min(session.getMaxPages(), entries.size())));
+
+        List<Page> detailPages = new ArrayList<>();
         try {
-            log.debug("기사 상세 페이지 크롤링: {}", url);
+            for (int i = 0; i < concurrency; i++) {
+                Page detailPage = session.newPage();
+                detailPage.setDefaultTimeout(PAGE_LOAD_TIMEOUT);
+                detailPages.add(detailPage);
+            }
+
+            for (int from = 0; from < entries.size(); from += concurrency) {
+                if (session.isCancelled()) {
+                    log.warn("Playwright 크롤링 중단 - 남은 상세 페이지 {}개 건너뜀", entries.size() - from);
+                    return extracted;
+                }
+                List<Map.Entry<String, String>> batch = entries.subList(from, Math.min(from + concurrency, entries.size()));
+                String[] previousUrls = new String[batch.size()];
+                long[] startNanos = new long[batch.size()];
+                boolean[] started = new boolean[batch.size()];
+
+                // 1단계: 호스트 간격을 지키며 각 페이지 이동 시작 (로드 완료를 기다리지 않음)
+                for (int i = 0; i < batch.size(); i++) {
+                    String url = batch.get(i).getKey();
+                    Page detailPage = detailPages.get(i);
+                    try {
+                        politenessLimiter.acquire(url);
+                        previousUrls[i] = detailPage.url();
+                        startNanos[i] = System.nanoTime();
+                        detailPage.evaluate("url => { window.location.href = url; }", url);
+                        started[i] = true;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        log.warn("Playwright 크롤링 중단");
+                        return extracted;
+                    } catch (Exception e) {
+                        log.error("기사 상세 페이지 이동 실패 ({}): {}", url, e.getMessage());
+                    }
+                }
+
+                // 2단계: 페이지별 로드 완료 대기 후 추출
+                for (int i = 0; i < batch.size(); i++) {
+                    if (!started[i] || session.isCancelled()) {
+                        continue;
+                    }
+                    String url = batch.get(i).getKey();
+                    String title = batch.get(i).getValue();
+                    Article article = readArticleDetails(detailPages.get(i), previousUrls[i], url, title);
+
+                    articleFetchTimer(FetchStrategy.BROWSER, article != null ? "success" : "failure")
+                            .record(System.nanoTime() - startNanos[i], TimeUnit.NANOSECONDS);
+                    if (article != null) {
+                        extracted.add(article);
+                        log.info("기사 추가 완료 ({}/{}): {}", extracted.size(), targets.size(), title);
+                    }
+                }
+            }
+        } finally {
+            for (Page detailPage : detailPages) {
+                try {
+                    detailPage.close();
+                } catch (Exception e) {
+                    log.warn("상세 페이지 종료 중 오류: {}", e.getMessage());
+                }
+            }
+        }
 
-            detailPage = context.newPage();
-            detailPage.setDefaultTimeout(PAGE_LOAD_TIMEOUT);
-            detailPage.navigate(url, new Page.NavigateOptions().setWaitUntil(WaitUntilState.NETWORKIDLE));
+        return extracted;
+    }
+
+    /**
+     * 이동을 시작한 상세 페이지에서 기사 정보 추출 - 로드/본문 요소 이벤트 대기
+     */
+    private Article readArticleDetails(Page detailPage, String previousUrl, String url, String title) {
+        try {
+            log.debug("기사 상세 페이지 크롤링: {}", url);
 
-            // 페이지 로드 대기
-            detailPage.waitForTimeout(2000);
+            // 이동 완료 및 DOM 로드 대기 (리다이렉트 고려하여 이전 URL에서 벗어났는지로 판단)
+            detailPage.waitForURL(currentUrl -> !currentUrl.equals(previousUrl),
+                    new Page.WaitForURLOptions().setWaitUntil(WaitUntilState.DOMCONTENTLOADED));
+
+            // 본문 요소가 렌더링될 때까지 대기 (없으면 body로 대체)
+            try {
+                detailPage.waitForSelector(CONTENT_READY_SELECTOR, new Page.WaitForSelectorOptions()
+                        .setState(WaitForSelectorState.ATTACHED)
+                        .setTimeout(CONTENT_READY_TIMEOUT));
+            } catch (TimeoutError e) {
+                log.debug("본문 요소 대기 시간 초과, 현재 DOM으로 추출: {}", url);
+            }
 
             // 본문 추출
             String content = extractContent(detailPage);
@@ -241,60 +552,62 @@ public class PlaywrightOpenAIBlogCrawler implements CrawlerService {
                 return null;
             }
 
-            // 설명 생성 (처음 500자)
-            String description = content.length() > 500
-                    ? content.substring(0, 500) + "..."
-                    : content;
-
             // 날짜 추출
             LocalDateTime publishedDate = extractPublishedDate(detailPage);
 
             // 카테고리 추출
             String category = extractCategory(detailPage);
 
-            // Article 엔티티 생성
-            Article article = new Article();
-            article.setTitle(title);
-            article.setContent(content);
-            article.setDescription(description);
-            article.setUrl(url);
-            article.setSourceName("OpenAI Blog");
-            article.setSourceType(Article.SourceType.OFFICIAL);
-            article.setCategory(category != null ? category : "AI Development");
-            article.setCrawledAt(LocalDateTime.now());
-            article.setPublishedAt(publishedDate);
-
-            return article;
+            return buildArticle(url, title, content, publishedDate, category);
 
         } catch (Exception e) {
             log.error("기사 상세 페이지 처리 중 오류 ({}): {}", url, e.getMessage(), e);
             return null;
-        } finally {
-            if (detailPage != null) {
-                try {
-                    detailPage.close();
-                } catch (Exception e) {
-                    log.warn("상세 페이지 종료 중 오류: {}", e.getMessage());
-                }
-            }
         }
     }
 
+    /**
+     * 추출한 정보로 Article 엔티티 생성
+     */
+    private Article buildArticle(String url, String title, String content, LocalDateTime publishedDate, String category) {
+        // 설명 생성 (처음 500자)
+        String description = content.length() > 500
+                ? content.substring(0, 500) + "..."
+                : content;
+
+        Article article = new Article();
+        article.setTitle(title);
+        article.setContent(content);
+        article.setDescription(description);
+        article.setUrl(url);
+        article.setSourceName("OpenAI Blog");
+        article.setSourceType(Article.SourceType.OFFICIAL);
+        article.setCategory(category != null ? category : "AI Development");
+        article.setCrawledAt(LocalDateTime.now());
+        article.setPublishedAt(publishedDate);
+        return article;
+    }
+
+    /**
+     * 기사 상세 페이지 수집 시간 타이머
+     */
+    private Timer articleFetchTimer(FetchStrategy strategy, String outcome) {
+        return Timer.builder("crawler.playwright.article.fetch")
+                .description("Time from request start to extracted article detail page")
+                .tag("crawler", "openai-blog")
+                .tag("strategy", strategy.name().toLowerCase())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
     /**
      * 페이지 본문 추출
      */
     private String extractContent(Page page) {
         try {
             // 여러 가능한 본문 selector 시도
-            String[] contentSelectors = {
-                    "article",
-                    "[class*='article-content']",
-                    "[class*='post-content']",
-                    "main",
-                    "[role='main']"
-            };
-
-            for (String selector : contentSelectors) {
+            for (String selector : CONTENT_SELECTORS) {
                 try {
                     Locator contentElement = page.locator(selector).first();
                     if (contentElement.count() > 0) {
@@ -354,9 +667,7 @@ public class PlaywrightOpenAIBlogCrawler implements CrawlerService {
     private String extractCategory(Page page) {
         try {
             // 카테고리 태그 찾기
-            String[] categorySelectors = {".category", ".tag", "[class*='category']"};
-
-            for (String selector : categorySelectors) {
+            for (String selector : CATEGORY_SELECTORS) {
                 try {
                     Locator categoryElement = page.locator(selector).first();
                     if (categoryElement.count() > 0) {
@@ -422,6 +733,19 @@ public class PlaywrightOpenAIBlogCrawler implements CrawlerService {
         return testArticles;
     }
 
+    /**
+     * 기사 목록 수집 결과 - Jsoup으로 수집한 경우 조건부 요청 결과 포함
+     */
+    private static class Listing {
+        private final Map<String, String> candidates;
+        private final ConditionalFetchResult fetchResult;
+
+        Listing(Map<String, String> candidates, ConditionalFetchResult fetchResult) {
+            this.candidates = candidates;
+            this.fetchResult = fetchResult;
+        }
+    }
+
     @Override
     public String getSourceType() {
         return Article.SourceType.OFFICIAL.name();
@@ -0,0 +1,56 @@
+package com.ainewsdesk.crawler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 버킷 요청 속도 제한기
+ * <p>초당 permitsPerSecond 속도로 토큰 충전, 최대 burst개까지 누적</p>
+ * <p>여러 스레드가 공유하며 토큰이 부족하면 예약 후 필요한 시간만큼 대기</p>
+ */
+public class TokenBucketRateLimiter {
+
+    private final double capacity;
+    private final double permitsPerNano;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive and burst must be at least 1");
+        }
+        this.capacity = burst;
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 1개 획득 - 부족하면 충전될 때까지 대기
+     * <p>대기가 없어도 중단된 스레드는 바로 InterruptedException (API 호출 전 중단 지점)</p>
+     */
+    public void acquire() throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        long waitNanos;
+        synchronized (this) {
+            refill();
+            tokens -= 1;
+            waitNanos = tokens >= 0 ? 0 : (long) (-tokens / permitsPerNano);
+        }
+
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * 경과 시간만큼 토큰 충전 - 잠금 보유 상태에서 호출
+     */
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+    }
+}
@@ -2,137 +2,412 @@ package com.ainewsdesk.crawler;
 
 import com.ainewsdesk.config.YouTubeConfig;
 import com.ainewsdesk.entity.Article;
-import com.ainewsdesk.repository.ArticleRepository;
+import com.ainewsdesk.entity.YouTubeChannelWatermark;
+import com.ainewsdesk.repository.YouTubeChannelWatermarkRepository;
+import com.google.api.client.util.DateTime;
 import com.google.api.services.youtube.YouTube;
+import com.google.api.services.youtube.model.PlaylistItem;
+import com.google.api.services.youtube.model.PlaylistItemContentDetails;
+import com.google.api.services.youtube.model.PlaylistItemListResponse;
 import com.google.api.services.youtube.model.SearchListResponse;
 import com.google.api.services.youtube.model.SearchResult;
 import com.google.api.services.youtube.model.Video;
 import com.google.api.services.youtube.model.VideoListResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 /**
  * YouTube Data API AI 뉴스 크롤러
  * <p>AI 기업 공식 YouTube 채널 최신 동영상 수집</p>
+ * <p>채널별 병렬 수집, API 호출은 채널 간 공유하는 토큰 버킷으로 속도 제한</p>
+ * <p>채널별 워터마크 이후 동영상만 조회, 일일 할당량은 {@link YouTubeQuotaLedger}로 관리</p>
  */
 @Service
 public class YouTubeAICrawler implements CrawlerService {
 
     private static final Logger log = LoggerFactory.getLogger(YouTubeAICrawler.class);
+    private static final String CHANNEL_ID_PREFIX = "UC";
+    private static final String UPLOADS_PLAYLIST_PREFIX = "UU";
+    private static final int MAX_RESULTS_PER_PAGE = 50;
 
     private final YouTube youtube;
     private final YouTubeConfig youtubeConfig;
-    private final ArticleRepository articleRepository;
-
-    public YouTubeAICrawler(YouTube youtube, YouTubeConfig youtubeConfig, ArticleRepository articleRepository) {
+    private final ArticleUrlFilter articleUrlFilter;
+    private final YouTubeChannelWatermarkRepository watermarkRepository;
+    private final YouTubeQuotaLedger quotaLedger;
+    private final MeterRegistry meterRegistry;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final ExecutorService channelExecutor;
+
+    public YouTubeAICrawler(YouTube youtube,
+                            YouTubeConfig youtubeConfig,
+                            ArticleUrlFilter articleUrlFilter,
+                            YouTubeChannelWatermarkRepository watermarkRepository,
+                            YouTubeQuotaLedger quotaLedger,
+                            MeterRegistry meterRegistry) {
         this.youtube = youtube;
         this.youtubeConfig = youtubeConfig;
-        this.articleRepository = articleRepository;
+        this.articleUrlFilter = articleUrlFilter;
+        this.watermarkRepository = watermarkRepository;
+        this.quotaLedger = quotaLedger;
+        this.meterRegistry = meterRegistry;
+        this.rateLimiter = new TokenBucketRateLimiter(youtubeConfig.getRequestsPerSecond(), youtubeConfig.getBurst());
+        this.channelExecutor = Executors.newFixedThreadPool(
+                youtubeConfig.getCrawlerConcurrency(), new CustomizableThreadFactory("youtube-crawler-"));
     }
 
     @Override
     public List<Article> crawl() {
+        // 채널 스레드들이 동시에 전달하므로 동기화된 목록에 수집
+        List<Article> newArticles = Collections.synchronizedList(new ArrayList<>());
+        crawl(CrawlSink.collecting(newArticles::add));
+        return new ArrayList<>(newArticles);
+    }
+
+    /**
+     * 스트리밍 크롤링 - 채널별로 변환한 동영상을 즉시 sink로 전달 (채널 스레드에서 동시 호출)
+     */
+    @Override
+    public void crawl(CrawlSink sink) {
         log.info("YouTube AI 채널 크롤링 시작");
-        List<Article> newArticles = new ArrayList<>();
 
         Map<String, String> aiChannels = youtubeConfig.getAiChannels();
 
         if (aiChannels.isEmpty()) {
             log.warn("설정된 YouTube 채널이 없습니다.");
-            return newArticles;
+            return;
         }
 
+        // 채널별 병렬 크롤링 (API 호출 속도는 공유 rate limiter로 제한)
+        List<ChannelTask> tasks = new ArrayList<>();
         for (Map.Entry<String, String> channel : aiChannels.entrySet()) {
-            String channelName = channel.getKey();
-            String channelId = channel.getValue();
-
-            try {
-                log.info("채널 크롤링 시작: {} (ID: {})", channelName, channelId);
-                List<Article> channelArticles = crawlChannel(channelName, channelId);
-                newArticles.addAll(channelArticles);
-                log.info("채널 크롤링 완료: {} - {}개 수집", channelName, channelArticles.size());
-
-                // Rate limiting (API quota 절약)
-                Thread.sleep(1000);
+            ChannelTask task = new ChannelTask();
+            task.future = channelExecutor.submit(() -> {
+                if (!task.claimed.compareAndSet(false, true)) {
+                    return 0;
+                }
+                try {
+                    return crawlChannelSafely(channel.getKey(), channel.getValue(), sink);
+                } finally {
+                    task.finished.countDown();
+                }
+            });
+            tasks.add(task);
+        }
 
-            } catch (Exception e) {
-                log.error("채널 크롤링 중 오류 발생: {} - {}", channelName, e.getMessage(), e);
+        int total = 0;
+        try {
+            for (ChannelTask task : tasks) {
+                total += task.future.get();
+            }
+        } catch (InterruptedException e) {
+            // 오케스트레이터의 시간 초과 중단 - 채널 스레드도 중단하고 실제로 끝날 때까지 대기
+            cancelAndAwait(tasks);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("YouTube 크롤링 중단");
+        } catch (ExecutionException e) {
+            cancelAndAwait(tasks);
+            if (e.getCause() instanceof CancellationException) {
+                throw (CancellationException) e.getCause();
             }
+            throw new IllegalStateException("YouTube 채널 크롤링 실패", e.getCause());
         }
 
-        log.info("YouTube AI 채널 크롤링 완료. 총 {}개 기사 수집", newArticles.size());
-        return newArticles;
+        log.info("YouTube AI 채널 크롤링 완료. 총 {}개 기사 수집", total);
     }
 
     /**
-     * 특정 채널 최신 동영상 크롤링
+     * 채널 크롤링 - 채널 단위 실패 격리, 소요 시간/실패 지표 기록
+     *
+     * @return sink로 전달한 동영상 수
      */
-    private List<Article> crawlChannel(String channelName, String channelId) throws Exception {
-        List<Article> articles = new ArrayList<>();
+    private int crawlChannelSafely(String channelName, String channelId, CrawlSink sink) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+
+        try {
+            log.info("채널 크롤링 시작: {} (ID: {})", channelName, channelId);
+            int emitted = crawlChannel(channelName, channelId, sink);
+            log.info("채널 크롤링 완료: {} - {}개 수집", channelName, emitted);
+            meterRegistry.counter("crawler.youtube.channel.videos", "channel", channelName)
+                    .increment(emitted);
+            return emitted;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = "failure";
+            log.warn("채널 크롤링 중단: {}", channelName);
+            return 0;
+
+        } catch (CancellationException e) {
+            // 수집 중단 - 다른 채널도 함께 중단되도록 전파
+            outcome = "failure";
+            throw e;
+
+        } catch (Exception e) {
+            outcome = "failure";
+            log.error("채널 크롤링 중 오류 발생: {} - {}", channelName, e.getMessage(), e);
+            return 0;
+
+        } finally {
+            sample.stop(meterRegistry.timer("crawler.youtube.channel.duration",
+                    "channel", channelName, "outcome", outcome));
+        }
+    }
 
-        // Step 1: 채널의 최신 동영상 검색
-        YouTube.Search.List search = youtube.search()
-                .list(List.of("id", "snippet"))
-                .setKey(youtubeConfig.getApiKey())
-                .setChannelId(channelId)
-                .setType(List.of("video"))
-                .setOrder("date")  // 최신순 정렬
-                .setMaxResults((long) youtubeConfig.getMaxResults());
+    /**
+     * 채널 작업 중단 후 종료 대기 - 시작 전인 작업은 실행하지 않고, 실행 중인 작업은 끝날 때까지 대기
+     */
+    private void cancelAndAwait(List<ChannelTask> tasks) {
+        List<ChannelTask> running = new ArrayList<>();
+        for (ChannelTask task : tasks) {
+            if (!task.claimed.compareAndSet(false, true)) {
+                task.future.cancel(true);
+                running.add(task);
+            }
+        }
+        for (ChannelTask task : running) {
+            while (true) {
+                try {
+                    task.finished.await();
+                    break;
+                } catch (InterruptedException e) {
+                    // 이미 중단 요청을 받은 상태 - 채널 종료까지 계속 대기
+                }
+            }
+        }
+    }
 
-        SearchListResponse searchResponse = search.execute();
-        List<SearchResult> searchResults = searchResponse.getItems();
+    /**
+     * 크롤링 스레드 풀 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        channelExecutor.shutdownNow();
+    }
 
-        if (searchResults == null || searchResults.isEmpty()) {
+    /**
+     * 특정 채널 최신 동영상 크롤링 - 워터마크 이후 동영상만 조회
+     *
+     * @return sink로 전달한 동영상 수
+     */
+    private int crawlChannel(String channelName, String channelId, CrawlSink sink) throws Exception {
+        int emitted = 0;
+        boolean lowPriority = youtubeConfig.isLowPriorityChannel(channelName);
+
+        // Step 1: 워터마크 조회 (늦게 공개되는 업로드 대비 중첩 구간 적용, 저장 실패는 워터마크를 올리지 않아 재조회)
+        Optional<YouTubeChannelWatermark> watermark = watermarkRepository.findById(channelId);
+        LocalDateTime publishedAfter = watermark
+                .map(w -> w.getLastPublishedAt().minusMinutes(youtubeConfig.getWatermarkOverlapMinutes()))
+                .orElse(null);
+
+        // Step 2: 채널의 최신 동영상 목록 조회
+        List<VideoRef> videoRefs = channelId.startsWith(CHANNEL_ID_PREFIX)
+                ? listUploads(channelName, channelId, lowPriority)
+                : searchVideos(channelName, channelId, publishedAfter, lowPriority);
+
+        if (videoRefs == null) {
+            log.warn("할당량 부족으로 채널 건너뜀: {}", channelName);
+            return emitted;
+        }
+        if (videoRefs.isEmpty()) {
             log.info("채널에 동영상이 없습니다: {}", channelName);
-            return articles;
+            return emitted;
         }
 
-        // Step 2: 동영상 ID 추출
+        // Step 3: 워터마크 이후 동영상 ID 추출
         List<String> videoIds = new ArrayList<>();
-        for (SearchResult result : searchResults) {
-            String videoId = result.getId().getVideoId();
-            videoIds.add(videoId);
+        Map<String, VideoRef> refsById = new HashMap<>();
+        VideoRef newest = null;
+        for (VideoRef videoRef : videoRefs) {
+            if (publishedAfter == null || videoRef.publishedAt.isAfter(publishedAfter)) {
+                videoIds.add(videoRef.videoId);
+            }
+            refsById.put(videoRef.videoId, videoRef);
+            if (newest == null || videoRef.publishedAt.isAfter(newest.publishedAt)) {
+                newest = videoRef;
+            }
         }
 
-        // Step 3: 동영상 상세 정보 가져오기
-        YouTube.Videos.List videoRequest = youtube.videos()
-                .list(List.of("snippet", "contentDetails", "statistics"))
-                .setKey(youtubeConfig.getApiKey())
-                .setId(videoIds);
+        if (videoIds.isEmpty()) {
+            log.info("워터마크 이후 새 동영상 없음: {}", channelName);
+            return emitted;
+        }
+
+        // 중복 체크 - 이미 저장된 동영상은 상세 조회 대상에서 제외
+        Set<String> existingUrls = articleUrlFilter.findExisting(
+                videoIds.stream().map(this::toVideoUrl).collect(Collectors.toList()));
+        List<String> newVideoIds = new ArrayList<>();
+        for (String videoId : videoIds) {
+            if (!existingUrls.contains(toVideoUrl(videoId))) {
+                newVideoIds.add(videoId);
+            }
+        }
+        log.debug("중복 제외: {} - {}개 중 {}개 신규", channelName, videoIds.size(), newVideoIds.size());
 
-        VideoListResponse videoResponse = videoRequest.execute();
-        List<Video> videos = videoResponse.getItems();
+        // 변환에 실패한 가장 오래된 동영상 - 워터마크가 이보다 앞서지 않도록 제한
+        VideoRef oldestUnsaved = null;
 
-        // Step 4: Article 엔티티로 변환
-        for (Video video : videos) {
-            try {
-                String videoId = video.getId();
-                String videoUrl = "https://www.youtube.com/watch?v=" + videoId;
+        // Step 4: 신규 동영상 상세 정보 가져오기
+        if (!newVideoIds.isEmpty()) {
+            if (!quotaLedger.tryConsume(YouTubeQuotaLedger.VIDEOS_LIST_COST, lowPriority)) {
+                log.warn("할당량 부족으로 동영상 상세 조회 건너뜀: {}", channelName);
+                return emitted;
+            }
 
-                // 중복 체크
-                if (articleRepository.existsByUrl(videoUrl)) {
-                    log.debug("이미 존재하는 동영상 건너뜀: {}", video.getSnippet().getTitle());
+            YouTube.Videos.List videoRequest = youtube.videos()
+                    .list(List.of("snippet", "contentDetails", "statistics"))
+                    .setKey(youtubeConfig.getApiKey())
+                    .setId(newVideoIds);
+
+            rateLimiter.acquire();
+            VideoListResponse videoResponse = videoRequest.execute();
+
+            // Step 5: Article 엔티티로 변환
+            for (Video video : videoResponse.getItems()) {
+                Article article;
+                try {
+                    article = convertVideoToArticle(video, channelName);
+                } catch (Exception e) {
+                    log.error("동영상 변환 중 오류: {} - {}", video.getSnippet().getTitle(), e.getMessage());
+                    VideoRef failed = refsById.get(video.getId());
+                    if (failed != null && (oldestUnsaved == null || failed.publishedAt.isBefore(oldestUnsaved.publishedAt))) {
+                        oldestUnsaved = failed;
+                    }
                     continue;
                 }
-
-                Article article = convertVideoToArticle(video, channelName);
-                articles.add(article);
+                sink.accept(article);
+                emitted++;
                 log.info("새로운 동영상 발견: {}", article.getTitle());
+            }
+        }
+
+        // Step 6: 워터마크 갱신 - 이 채널의 동영상이 모두 저장된 뒤에만 기록
+        // 변환 실패 동영상이 있으면 그 발행 시간 직전까지만 올려 다음 크롤링에서 다시 조회
+        VideoRef target = oldestUnsaved == null
+                ? newest
+                : new VideoRef(oldestUnsaved.videoId, oldestUnsaved.publishedAt.minusSeconds(1));
+        if (watermark.isEmpty() || target.publishedAt.isAfter(watermark.get().getLastPublishedAt())) {
+            YouTubeChannelWatermark updated = watermark.orElseGet(YouTubeChannelWatermark::new);
+            sink.afterPersisted(() -> {
+                updated.setChannelId(channelId);
+                updated.setLastPublishedAt(target.publishedAt);
+                updated.setLastVideoId(target.videoId);
+                watermarkRepository.save(updated);
+                log.debug("채널 워터마크 갱신: {} - {} ({})", channelName, target.publishedAt, target.videoId);
+            });
+        }
 
-            } catch (Exception e) {
-                log.error("동영상 변환 중 오류: {} - {}", video.getSnippet().getTitle(), e.getMessage());
+        return emitted;
+    }
+
+    /**
+     * 업로드 재생목록 조회 (할당량 1) - 할당량 부족 시 null 반환
+     * <p>채널 ID(UC...)의 업로드 재생목록 ID는 UU...</p>
+     */
+    private List<VideoRef> listUploads(String channelName, String channelId, boolean lowPriority) throws Exception {
+        if (!quotaLedger.tryConsume(YouTubeQuotaLedger.PLAYLIST_ITEMS_LIST_COST, lowPriority)) {
+            return null;
+        }
+
+        String uploadsPlaylistId = UPLOADS_PLAYLIST_PREFIX + channelId.substring(CHANNEL_ID_PREFIX.length());
+        YouTube.PlaylistItems.List request = youtube.playlistItems()
+                .list(List.of("contentDetails"))
+                .setKey(youtubeConfig.getApiKey())
+                .setPlaylistId(uploadsPlaylistId)
+                .setMaxResults((long) Math.min(youtubeConfig.getMaxResults(), MAX_RESULTS_PER_PAGE));
+
+        rateLimiter.acquire();
+        PlaylistItemListResponse response = request.execute();
+
+        List<VideoRef> videoRefs = new ArrayList<>();
+        if (response.getItems() == null) {
+            return videoRefs;
+        }
+        for (PlaylistItem item : response.getItems()) {
+            PlaylistItemContentDetails details = item.getContentDetails();
+            // 비공개/예약 동영상은 발행 시간이 없음
+            if (details == null || details.getVideoPublishedAt() == null) {
+                continue;
             }
+            videoRefs.add(new VideoRef(details.getVideoId(), toUtc(details.getVideoPublishedAt())));
+        }
+        log.debug("업로드 재생목록 조회: {} - {}개", channelName, videoRefs.size());
+        return videoRefs;
+    }
+
+    /**
+     * 채널 동영상 검색 (할당량 100) - 업로드 재생목록을 쓸 수 없는 채널 ID용, 할당량 부족 시 null 반환
+     */
+    private List<VideoRef> searchVideos(String channelName, String channelId, LocalDateTime publishedAfter,
+                                        boolean lowPriority) throws Exception {
+        if (!quotaLedger.tryConsume(YouTubeQuotaLedger.SEARCH_LIST_COST, lowPriority)) {
+            return null;
+        }
+
+        YouTube.Search.List search = youtube.search()
+                .list(List.of("id", "snippet"))
+                .setKey(youtubeConfig.getApiKey())
+                .setChannelId(channelId)
+                .setType(List.of("video"))
+                .setOrder("date")  // 최신순 정렬
+                .setMaxResults((long) Math.min(youtubeConfig.getMaxResults(), MAX_RESULTS_PER_PAGE));
+        if (publishedAfter != null) {
+            search.setPublishedAfter(publishedAfter.atOffset(ZoneOffset.UTC).format(DateTimeFormatter.ISO_OFFSET_DATE_TIME));
         }
 
-        return articles;
+        rateLimiter.acquire();
+        SearchListResponse searchResponse = search.execute();
+
+        List<VideoRef> videoRefs = new ArrayList<>();
+        if (searchResponse.getItems() == null) {
+            return videoRefs;
+        }
+        for (SearchResult result : searchResponse.getItems()) {
+            videoRefs.add(new VideoRef(result.getId().getVideoId(), toUtc(result.getSnippet().getPublishedAt())));
+        }
+        log.debug("채널 동영상 검색: {} - {}개", channelName, videoRefs.size());
+        return videoRefs;
+    }
+
+    /**
+     * 동영상 ID → 동영상 URL 변환
+     */
+    private String toVideoUrl(String videoId) {
+        return "https://www.youtube.com/watch?v=" + videoId;
+    }
+
+    /**
+     * API DateTime → UTC LocalDateTime 변환
+     */
+    private LocalDateTime toUtc(DateTime dateTime) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(dateTime.getValue()), ZoneOffset.UTC);
     }
 
     /**
@@ -144,7 +419,7 @@ public class YouTubeAICrawler implements CrawlerService {
         // 기본 정보
         article.setTitle(video.getSnippet().getTitle());
         article.setDescription(video.getSnippet().getDescription());
-        article.setUrl("https://www.youtube.com/watch?v=" + video.getId());
+        article.setUrl(toVideoUrl(video.getId()));
 
         // 본문 (설명 + 통계)
         StringBuilder content = new StringBuilder();
@@ -219,6 +494,31 @@ public class YouTubeAICrawler implements CrawlerService {
         return String.format("%,d", number.longValue());
     }
 
+    /**
+     * 채널 크롤링 작업 - 시작 여부(claimed)와 종료 신호
+     * <p>Future.cancel은 실행 중인 스레드가 끝나기 전에 완료 상태가 되므로 종료는 finished로 확인</p>
+     */
+    private static class ChannelTask {
+
+        private final AtomicBoolean claimed = new AtomicBoolean(false);
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private volatile Future<Integer> future;
+    }
+
+    /**
+     * 동영상 ID와 발행 시간 (UTC)
+     */
+    private static class VideoRef {
+
+        private final String videoId;
+        private final LocalDateTime publishedAt;
+
+        VideoRef(String videoId, LocalDateTime publishedAt) {
+            this.videoId = videoId;
+            this.publishedAt = publishedAt;
+        }
+    }
+
     @Override
     public String getSourceType() {
         return Article.SourceType.OFFICIAL.name();
@@ -0,0 +1,96 @@
+package com.ainewsdesk.crawler;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * YouTube Data API 일일 할당량 장부
+ * <p>호출 전 비용(unit)을 예약하여 일일 사용량 추적, 태평양 시간 자정에 초기화 (YouTube 할당량 기준)</p>
+ * <p>사용량이 저우선순위 한도를 넘으면 저우선순위 채널 호출을 거절하여 고우선순위 채널 몫을 남김</p>
+ */
+@Component
+public class YouTubeQuotaLedger {
+
+    private static final Logger log = LoggerFactory.getLogger(YouTubeQuotaLedger.class);
+    private static final ZoneId QUOTA_ZONE = ZoneId.of("America/Los_Angeles");
+
+    // API별 할당량 비용
+    public static final int SEARCH_LIST_COST = 100;
+    public static final int PLAYLIST_ITEMS_LIST_COST = 1;
+    public static final int VIDEOS_LIST_COST = 1;
+
+    private final int dailyLimit;
+    private final int lowPriorityLimit;
+
+    private LocalDate quotaDate;
+    private int usedUnits;
+
+    public YouTubeQuotaLedger(
+            MeterRegistry meterRegistry,
+            @Value("${youtube.quota.daily-limit:10000}") int dailyLimit,
+            @Value("${youtube.quota.low-priority-ratio:0.8}") double lowPriorityRatio) {
+        this.dailyLimit = dailyLimit;
+        this.lowPriorityLimit = (int) (dailyLimit * lowPriorityRatio);
+        this.quotaDate = LocalDate.now(QUOTA_ZONE);
+
+        Gauge.builder("youtube.quota.used", this, YouTubeQuotaLedger::getUsedUnits)
+                .description("YouTube Data API quota units used today")
+                .baseUnit("units")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 할당량 예약 - 한도 초과 시 false 반환
+     *
+     * @param units 호출 비용
+     * @param lowPriority 저우선순위 채널 여부
+     */
+    public synchronized boolean tryConsume(int units, boolean lowPriority) {
+        resetIfNewDay();
+
+        int limit = lowPriority ? lowPriorityLimit : dailyLimit;
+        if (usedUnits + units > limit) {
+            log.warn("YouTube API 할당량 부족으로 호출 거절 (사용: {}/{}, 요청: {}, 저우선순위: {})",
+                    usedUnits, dailyLimit, units, lowPriority);
+            return false;
+        }
+
+        usedUnits += units;
+        return true;
+    }
+
+    /**
+     * 오늘 사용한 할당량 반환
+     */
+    public synchronized int getUsedUnits() {
+        resetIfNewDay();
+        return usedUnits;
+    }
+
+    /**
+     * 오늘 남은 할당량 반환
+     */
+    public synchronized int getRemainingUnits() {
+        resetIfNewDay();
+        return Math.max(0, dailyLimit - usedUnits);
+    }
+
+    /**
+     * 날짜가 바뀌면 사용량 초기화 - 잠금 보유 상태에서 호출
+     */
+    private void resetIfNewDay() {
+        LocalDate today = LocalDate.now(QUOTA_ZONE);
+        if (!today.equals(quotaDate)) {
+            log.info("YouTube API 할당량 초기화 (전일 사용량: {})", usedUnits);
+            quotaDate = today;
+            usedUnits = 0;
+        }
+    }
+}
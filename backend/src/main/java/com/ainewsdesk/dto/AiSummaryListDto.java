@@ -0,0 +1,66 @@
+package com.ainewsdesk.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 요약 목록 응답 데이터 객체 - 본문 제외
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AiSummaryListDto {
+
+    /**
+     * AI 요약 ID
+     */
+    private Long id;
+
+    /**
+     * 요약 제목
+     */
+    private String title;
+
+    /**
+     * 요약 기간 시작
+     */
+    private LocalDateTime summaryPeriodStart;
+
+    /**
+     * 요약 기간 끝
+     */
+    private LocalDateTime summaryPeriodEnd;
+
+    /**
+     * 상태 (DRAFT, PUBLISHED)
+     */
+    private String status;
+
+    /**
+     * 주요 하이라이트 앞부분
+     */
+    private String highlightPreview;
+
+    /**
+     * 관련 기사 수
+     */
+    private Integer relatedArticlesCount;
+
+    /**
+     * 버전 (증분 갱신마다 증가)
+     */
+    private Integer version;
+
+    /**
+     * 요약 생성 시간
+     */
+    private LocalDateTime generatedAt;
+
+    /**
+     * 등록 시간
+     */
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,32 @@
+package com.ainewsdesk.dto;
+
+import com.ainewsdesk.entity.Article;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 크롤링 기사 저장 결과 데이터 객체
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleIngestResult {
+
+    /**
+     * 새로 저장된 기사 목록
+     */
+    private List<Article> insertedArticles;
+
+    /**
+     * 새로 저장된 기사 수
+     */
+    private int insertedCount;
+
+    /**
+     * 중복으로 건너뛴 기사 수 (요청 내 중복 URL + 이미 저장된 URL)
+     */
+    private int skippedCount;
+}
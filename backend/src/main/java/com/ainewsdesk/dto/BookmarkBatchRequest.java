@@ -0,0 +1,38 @@
+package com.ainewsdesk.dto;
+
+import com.ainewsdesk.entity.Bookmark;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 북마크 대량 추가 요청 데이터 객체
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookmarkBatchRequest {
+
+    /**
+     * 한 번에 처리할 수 있는 최대 항목 수 (대량 추가/삭제 공통)
+     */
+    public static final int MAX_ITEMS = 100;
+
+    /**
+     * 북마크 타입
+     */
+    @NotNull(message = "북마크 타입은 필수 입력 항목입니다.")
+    private Bookmark.BookmarkType bookmarkType;
+
+    /**
+     * 항목 ID 목록 (기사 ID 또는 AI 요약 ID)
+     */
+    @NotEmpty(message = "항목 ID 목록은 필수 입력 항목입니다.")
+    @Size(max = MAX_ITEMS, message = "한 번에 최대 {max}개까지 처리할 수 있습니다.")
+    private List<@NotNull Long> itemIds;
+}
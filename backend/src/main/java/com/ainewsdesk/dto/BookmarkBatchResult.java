@@ -0,0 +1,24 @@
+package com.ainewsdesk.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 북마크 대량 추가/삭제 결과 데이터 객체
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookmarkBatchResult {
+
+    /**
+     * 요청한 항목 수 (중복 ID 제외)
+     */
+    private int requested;
+
+    /**
+     * 실제로 추가/삭제된 항목 수 (이미 북마크됨, 대상 없음, 북마크 아님은 제외)
+     */
+    private int affected;
+}
@@ -0,0 +1,55 @@
+package com.ainewsdesk.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 크롤러 1회 실행 결과 데이터 객체
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CrawlerRunResult {
+
+    /**
+     * 크롤러 이름
+     */
+    private String crawlerName;
+
+    /**
+     * 실행 결과 (SUCCESS, FAILED, TIMEOUT)
+     */
+    private Status status;
+
+    /**
+     * 크롤러가 수집한 기사 수
+     */
+    private int crawledCount;
+
+    /**
+     * 새로 저장된 기사 수
+     */
+    private int insertedCount;
+
+    /**
+     * 중복으로 건너뛴 기사 수
+     */
+    private int skippedCount;
+
+    /**
+     * 크롤링 소요 시간 (밀리초)
+     */
+    private long durationMillis;
+
+    /**
+     * 실패 사유 (성공 시 null)
+     */
+    private String error;
+
+    public enum Status {
+        SUCCESS,
+        FAILED,
+        TIMEOUT
+    }
+}
@@ -0,0 +1,37 @@
+package com.ainewsdesk.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답 데이터 객체
+ * <p>전체 개수 없이 다음 페이지 존재 여부와 다음 커서만 제공</p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+
+    /**
+     * 페이지 항목 목록
+     */
+    private List<T> content;
+
+    /**
+     * 페이지 항목 수
+     */
+    private int size;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+
+    /**
+     * 다음 페이지 조회용 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+}
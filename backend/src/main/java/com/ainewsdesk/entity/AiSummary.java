@@ -4,12 +4,16 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
 @Table(name = "ai_summaries", indexes = {
-    @Index(name = "idx_period_start", columnList = "summary_period_start DESC")
+    @Index(name = "idx_period_start", columnList = "summary_period_start DESC"),
+    @Index(name = "idx_status_period_start", columnList = "status, summary_period_start DESC")
 })
 @Data
 @NoArgsConstructor
@@ -26,6 +30,11 @@ public class AiSummary {
     @Column(name = "summary_period_end", nullable = false)
     private LocalDateTime summaryPeriodEnd;
 
+    // 기사 수 한도로 기간 끝에서 잘린 경우 마지막으로 반영한 기사 ID - 수집 시간이 기간 끝과 같은 기사는 이 ID까지만 반영
+    // null이면 기간 끝까지 모두 반영 ((summaryPeriodEnd, id) 증분 커서)
+    @Column(name = "period_end_article_id")
+    private Long periodEndArticleId;
+
     @Column(nullable = false, length = 255)
     private String title;
 
@@ -38,6 +47,21 @@ public class AiSummary {
     @Column(name = "related_articles_count")
     private Integer relatedArticlesCount;
 
+    // 요약에 사용된 기사 링크 (목록 조회 시 여러 요약의 링크를 한 번에 로드)
+    @ElementCollection
+    @CollectionTable(name = "ai_summary_articles", joinColumns = @JoinColumn(name = "summary_id"))
+    @OrderColumn(name = "position")
+    @BatchSize(size = 50)
+    private List<RelatedArticleLink> relatedArticles = new ArrayList<>();
+
+    // 입력 기사 집합 지문 - SHA-256(기간 시작 + 정렬된 기사 ID), 같으면 재생성 생략
+    @Column(name = "input_fingerprint", length = 64)
+    private String inputFingerprint;
+
+    // 증분 갱신할 때마다 1씩 증가, 이전 버전은 ai_summary_revisions에 보관
+    @Column(nullable = false)
+    private Integer version = 1;
+
     @Column(name = "generated_at", nullable = false)
     private LocalDateTime generatedAt;
 
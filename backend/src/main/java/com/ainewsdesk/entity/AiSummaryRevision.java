@@ -0,0 +1,50 @@
+package com.ainewsdesk.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 요약 이전 버전 - 요약을 갱신하기 직전 내용을 보관
+ */
+@Entity
+@Table(name = "ai_summary_revisions", indexes = {
+    @Index(name = "idx_revision_summary_version", columnList = "summary_id, version DESC")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AiSummaryRevision {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "summary_id", nullable = false)
+    private Long summaryId;
+
+    @Column(nullable = false)
+    private Integer version;
+
+    @Column(nullable = false, length = 255)
+    private String title;
+
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String content;
+
+    @Column(name = "key_highlights", columnDefinition = "LONGTEXT")
+    private String keyHighlights;
+
+    @Column(name = "summary_period_end", nullable = false)
+    private LocalDateTime summaryPeriodEnd;
+
+    @Column(name = "related_articles_count")
+    private Integer relatedArticlesCount;
+
+    // 이 버전이 생성된 시간
+    @Column(name = "generated_at", nullable = false)
+    private LocalDateTime generatedAt;
+}
@@ -10,7 +10,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "articles", indexes = {
     @Index(name = "idx_crawled_at", columnList = "crawled_at DESC"),
-    @Index(name = "idx_source_type", columnList = "source_type")
+    @Index(name = "idx_source_type_crawled_at", columnList = "source_type, crawled_at DESC"),
+    @Index(name = "idx_category_crawled_at", columnList = "category, crawled_at DESC")
 })
 @Data
 @NoArgsConstructor
@@ -11,9 +11,13 @@ import java.time.LocalDateTime;
 @Table(
     name = "bookmarks",
     indexes = {
-        @Index(name = "idx_user_id", columnList = "user_id"),
-        @Index(name = "idx_user_article", columnList = "user_id, article_id"),
-        @Index(name = "idx_user_summary", columnList = "user_id, ai_summary_id")
+        @Index(name = "idx_user_id", columnList = "user_id")
+    },
+    // 사용자당 같은 대상은 한 번만 북마크 (다른 타입 행의 NULL 컬럼은 유니크 비교에서 제외됨)
+    // 기존 중복 행 때문에 ddl-auto가 제약을 만들지 못하면 BookmarkConstraintInitializer가 정리 후 추가
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_article", columnNames = {"user_id", "article_id"}),
+        @UniqueConstraint(name = "uk_user_summary", columnNames = {"user_id", "ai_summary_id"})
     }
 )
 @Data
@@ -0,0 +1,32 @@
+package com.ainewsdesk.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "llm_response_cache", indexes = {
+    @Index(name = "idx_llm_cache_created_at", columnList = "created_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LlmResponseCacheEntry {
+
+    // SHA-256(모델, 생성 설정, 프롬프트) 16진수
+    @Id
+    @Column(name = "cache_key", length = 64)
+    private String cacheKey;
+
+    @Column(nullable = false, length = 100)
+    private String model;
+
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String response;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,38 @@
+package com.ainewsdesk.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "page_fetch_metadata")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageFetchMetadata {
+
+    @Id
+    @Column(length = 512)
+    private String url;
+
+    // 조건부 요청 헤더 값 (If-None-Match / If-Modified-Since)
+    @Column(length = 255)
+    private String etag;
+
+    @Column(name = "last_modified", length = 64)
+    private String lastModified;
+
+    // 응답 본문 SHA-256 (16진수)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "last_fetched_at", nullable = false)
+    private LocalDateTime lastFetchedAt;
+
+    // 본문이 마지막으로 바뀐 시간
+    @Column(name = "last_changed_at")
+    private LocalDateTime lastChangedAt;
+}
@@ -0,0 +1,26 @@
+package com.ainewsdesk.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * AI 요약에 사용된 기사 링크
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RelatedArticleLink {
+
+    @Column(name = "article_id", nullable = false)
+    private Long articleId;
+
+    @Column(nullable = false, length = 500)
+    private String title;
+
+    @Column(nullable = false)
+    private String url;
+}
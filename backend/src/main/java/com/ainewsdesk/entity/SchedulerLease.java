@@ -0,0 +1,36 @@
+package com.ainewsdesk.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "scheduler_leases")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerLease {
+
+    // 스케줄 작업 이름
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    // 임대를 가진 인스턴스 (호스트명:임의값)
+    @Column(length = 128)
+    private String owner;
+
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+
+    // 이 시간이 지나면 다른 인스턴스가 가져갈 수 있음
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 작업 실행 중 주기적으로 갱신
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+}
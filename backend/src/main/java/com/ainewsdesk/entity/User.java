@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
@@ -30,6 +31,14 @@ public class User {
     @Column(nullable = false)
     private Boolean verified = false;
 
+    /**
+     * 북마크 변경 버전 - 북마크가 바뀔 때마다 증가, 인스턴스별 북마크 집합 캐시의 유효성 확인에 사용
+     * <p>전용 UPDATE 쿼리로만 바꾸므로 엔티티 저장 시에는 쓰지 않음</p>
+     */
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Long bookmarkVersion;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
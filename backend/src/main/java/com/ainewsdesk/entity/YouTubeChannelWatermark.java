@@ -0,0 +1,36 @@
+package com.ainewsdesk.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "youtube_channel_watermarks")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class YouTubeChannelWatermark {
+
+    @Id
+    @Column(name = "channel_id", length = 64)
+    private String channelId;
+
+    // 마지막으로 확인한 동영상 발행 시간 (UTC)
+    @Column(name = "last_published_at", nullable = false)
+    private LocalDateTime lastPublishedAt;
+
+    @Column(name = "last_video_id", length = 32)
+    private String lastVideoId;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
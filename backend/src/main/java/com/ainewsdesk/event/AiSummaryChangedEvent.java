@@ -0,0 +1,21 @@
+package com.ainewsdesk.event;
+
+/**
+ * AI 요약 변경 이벤트
+ * <p>AI 요약 생성/갱신/발행/삭제 시 발행, 트랜잭션 커밋 후 최신 요약 스냅샷 갱신에 사용</p>
+ */
+public class AiSummaryChangedEvent {
+
+    private final Long summaryId;
+
+    public AiSummaryChangedEvent(Long summaryId) {
+        this.summaryId = summaryId;
+    }
+
+    /**
+     * 변경된 AI 요약 ID
+     */
+    public Long getSummaryId() {
+        return summaryId;
+    }
+}
@@ -0,0 +1,63 @@
+package com.ainewsdesk.event;
+
+import com.ainewsdesk.entity.Article;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 기사 변경 이벤트
+ * <p>기사 저장/수정/삭제 시 발행, 트랜잭션 커밋 후 검색 색인 등 부가 구조 갱신에 사용</p>
+ */
+public class ArticleChangedEvent {
+
+    /**
+     * 변경 유형
+     */
+    public enum ChangeType {
+        SAVED,    // 생성 또는 수정
+        DELETED   // 삭제
+    }
+
+    private final ChangeType changeType;
+    private final List<Article> articles;
+    private final List<Long> articleIds;
+
+    private ArticleChangedEvent(ChangeType changeType, List<Article> articles, List<Long> articleIds) {
+        this.changeType = changeType;
+        this.articles = articles;
+        this.articleIds = articleIds;
+    }
+
+    /**
+     * 저장 이벤트 생성
+     */
+    public static ArticleChangedEvent saved(List<Article> articles) {
+        return new ArticleChangedEvent(ChangeType.SAVED, List.copyOf(articles), Collections.emptyList());
+    }
+
+    /**
+     * 삭제 이벤트 생성
+     */
+    public static ArticleChangedEvent deleted(Long articleId) {
+        return new ArticleChangedEvent(ChangeType.DELETED, Collections.emptyList(), List.of(articleId));
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    /**
+     * 저장된 기사 목록 (SAVED)
+     */
+    public List<Article> getArticles() {
+        return articles;
+    }
+
+    /**
+     * 삭제된 기사 ID 목록 (DELETED)
+     */
+    public List<Long> getArticleIds() {
+        return articleIds;
+    }
+}
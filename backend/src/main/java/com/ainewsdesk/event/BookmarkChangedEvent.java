@@ -0,0 +1,87 @@
+package com.ainewsdesk.event;
+
+import com.ainewsdesk.entity.Bookmark.BookmarkType;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 북마크 변경 이벤트
+ * <p>북마크 추가/삭제 시 발행, 트랜잭션 커밋 후 사용자별 북마크 집합 캐시 갱신에 사용</p>
+ * <p>변경 후의 사용자 북마크 버전을 함께 담아 캐시가 순서가 어긋난 이벤트를 알아챌 수 있게 함</p>
+ */
+public class BookmarkChangedEvent {
+
+    /**
+     * 변경 유형
+     */
+    public enum ChangeType {
+        ADDED,    // 항목 추가
+        REMOVED,  // 항목 삭제
+        RELOAD    // 변경된 항목을 특정할 수 없음 (대량 추가 일부 생략 등)
+    }
+
+    private final Long userId;
+    private final BookmarkType bookmarkType;
+    private final ChangeType changeType;
+    private final List<Long> itemIds;
+    private final long bookmarkVersion;
+
+    private BookmarkChangedEvent(Long userId, BookmarkType bookmarkType, ChangeType changeType, List<Long> itemIds,
+                                 long bookmarkVersion) {
+        this.userId = userId;
+        this.bookmarkType = bookmarkType;
+        this.changeType = changeType;
+        this.itemIds = itemIds;
+        this.bookmarkVersion = bookmarkVersion;
+    }
+
+    /**
+     * 추가 이벤트 생성
+     */
+    public static BookmarkChangedEvent added(Long userId, BookmarkType bookmarkType, List<Long> itemIds,
+                                             long bookmarkVersion) {
+        return new BookmarkChangedEvent(userId, bookmarkType, ChangeType.ADDED, List.copyOf(itemIds), bookmarkVersion);
+    }
+
+    /**
+     * 삭제 이벤트 생성
+     */
+    public static BookmarkChangedEvent removed(Long userId, BookmarkType bookmarkType, List<Long> itemIds,
+                                               long bookmarkVersion) {
+        return new BookmarkChangedEvent(userId, bookmarkType, ChangeType.REMOVED, List.copyOf(itemIds), bookmarkVersion);
+    }
+
+    /**
+     * 재로드 이벤트 생성 - 사용자의 북마크 집합을 다시 읽어야 할 때
+     */
+    public static BookmarkChangedEvent reload(Long userId, BookmarkType bookmarkType, long bookmarkVersion) {
+        return new BookmarkChangedEvent(userId, bookmarkType, ChangeType.RELOAD, Collections.emptyList(), bookmarkVersion);
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public BookmarkType getBookmarkType() {
+        return bookmarkType;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    /**
+     * 변경된 항목 ID 목록 (기사 ID 또는 AI 요약 ID, RELOAD이면 빈 목록)
+     */
+    public List<Long> getItemIds() {
+        return itemIds;
+    }
+
+    /**
+     * 이 변경을 반영한 뒤의 사용자 북마크 버전
+     */
+    public long getBookmarkVersion() {
+        return bookmarkVersion;
+    }
+}
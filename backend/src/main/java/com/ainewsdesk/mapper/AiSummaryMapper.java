@@ -0,0 +1,35 @@
+package com.ainewsdesk.mapper;
+
+import com.ainewsdesk.dto.AiSummaryListDto;
+import com.ainewsdesk.repository.projection.AiSummaryListView;
+import org.springframework.stereotype.Component;
+
+/**
+ * AiSummary 프로젝션 → DTO 변환
+ */
+@Component
+public class AiSummaryMapper {
+
+    /**
+     * AiSummaryListView → AiSummaryListDto 변환
+     */
+    public AiSummaryListDto toListDto(AiSummaryListView view) {
+        if (view == null) {
+            return null;
+        }
+
+        AiSummaryListDto dto = new AiSummaryListDto();
+        dto.setId(view.getId());
+        dto.setTitle(view.getTitle());
+        dto.setSummaryPeriodStart(view.getSummaryPeriodStart());
+        dto.setSummaryPeriodEnd(view.getSummaryPeriodEnd());
+        dto.setStatus(view.getStatus() != null ? view.getStatus().name() : null);
+        dto.setHighlightPreview(view.getHighlightPreview());
+        dto.setRelatedArticlesCount(view.getRelatedArticlesCount());
+        dto.setVersion(view.getVersion());
+        dto.setGeneratedAt(view.getGeneratedAt());
+        dto.setCreatedAt(view.getCreatedAt());
+
+        return dto;
+    }
+}
@@ -3,6 +3,7 @@ package com.ainewsdesk.mapper;
 import com.ainewsdesk.dto.ArticleDetailDto;
 import com.ainewsdesk.dto.ArticleDto;
 import com.ainewsdesk.entity.Article;
+import com.ainewsdesk.repository.projection.ArticleListView;
 import org.springframework.stereotype.Component;
 
 /**
@@ -34,6 +35,29 @@ public class ArticleMapper {
         return dto;
     }
 
+    /**
+     * ArticleListView → ArticleDto 변환
+     */
+    public ArticleDto toDto(ArticleListView view) {
+        if (view == null) {
+            return null;
+        }
+
+        ArticleDto dto = new ArticleDto();
+        dto.setId(view.getId());
+        dto.setTitle(view.getTitle());
+        dto.setDescription(view.getDescription());
+        dto.setUrl(view.getUrl());
+        dto.setSourceName(view.getSourceName());
+        dto.setSourceType(view.getSourceType() != null ? view.getSourceType().name() : null);
+        dto.setCategory(view.getCategory());
+        dto.setThumbnailUrl(view.getThumbnailUrl());
+        dto.setPublishedAt(view.getPublishedAt());
+        dto.setCrawledAt(view.getCrawledAt());
+
+        return dto;
+    }
+
     /**
      * Article → ArticleDetailDto 변환
      */
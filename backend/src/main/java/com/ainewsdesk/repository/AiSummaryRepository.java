@@ -2,10 +2,12 @@ package com.ainewsdesk.repository;
 
 import com.ainewsdesk.entity.AiSummary;
 import com.ainewsdesk.entity.AiSummary.SummaryStatus;
+import com.ainewsdesk.repository.projection.AiSummaryListView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -16,14 +18,26 @@ import java.util.Optional;
 public interface AiSummaryRepository extends JpaRepository<AiSummary, Long> {
 
     /**
-     * AI 요약 전체 조회 - 기간 시작일 내림차순
+     * 목록 조회 SELECT 절 - 본문(content) 제외, 하이라이트는 앞 500자만
      */
-    Page<AiSummary> findByOrderBySummaryPeriodStartDesc(Pageable pageable);
+    String LIST_VIEW_SELECT = "SELECT s.id AS id, s.title AS title, " +
+            "s.summaryPeriodStart AS summaryPeriodStart, s.summaryPeriodEnd AS summaryPeriodEnd, s.status AS status, " +
+            "SUBSTRING(s.keyHighlights, 1, 500) AS highlightPreview, s.relatedArticlesCount AS relatedArticlesCount, " +
+            "s.version AS version, s.generatedAt AS generatedAt, s.createdAt AS createdAt ";
 
     /**
-     * 상태별 AI 요약 조회 - 기간 시작일 내림차순
+     * AI 요약 목록 조회 - 기간 시작일 내림차순, 본문 제외
      */
-    Page<AiSummary> findByStatusOrderBySummaryPeriodStartDesc(SummaryStatus status, Pageable pageable);
+    @Query(value = LIST_VIEW_SELECT + "FROM AiSummary s ORDER BY s.summaryPeriodStart DESC",
+            countQuery = "SELECT COUNT(s) FROM AiSummary s")
+    Page<AiSummaryListView> findListBy(Pageable pageable);
+
+    /**
+     * 상태별 AI 요약 목록 조회 - 기간 시작일 내림차순, 본문 제외
+     */
+    @Query(value = LIST_VIEW_SELECT + "FROM AiSummary s WHERE s.status = :status ORDER BY s.summaryPeriodStart DESC",
+            countQuery = "SELECT COUNT(s) FROM AiSummary s WHERE s.status = :status")
+    Page<AiSummaryListView> findListByStatus(@Param("status") SummaryStatus status, Pageable pageable);
 
     /**
      * 기간 범위 내 AI 요약 조회
@@ -33,6 +47,14 @@ public interface AiSummaryRepository extends JpaRepository<AiSummary, Long> {
             LocalDateTime endDateTime
     );
 
+    /**
+     * 기간 시작이 같은 최신 AI 요약 조회 - 증분 갱신 대상
+     */
+    Optional<AiSummary> findFirstBySummaryPeriodStartAndStatusOrderByIdDesc(
+            LocalDateTime summaryPeriodStart,
+            SummaryStatus status
+    );
+
     /**
      * 최신 발행 AI 요약 조회
      */
@@ -0,0 +1,21 @@
+package com.ainewsdesk.repository;
+
+import com.ainewsdesk.entity.AiSummaryRevision;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AiSummaryRevisionRepository extends JpaRepository<AiSummaryRevision, Long> {
+
+    /**
+     * 요약의 이전 버전 조회 - 최신 버전부터
+     */
+    List<AiSummaryRevision> findBySummaryIdOrderByVersionDesc(Long summaryId);
+
+    /**
+     * 요약의 이전 버전 삭제
+     */
+    void deleteBySummaryId(Long summaryId);
+}
@@ -0,0 +1,20 @@
+package com.ainewsdesk.repository;
+
+import com.ainewsdesk.entity.Article;
+
+import java.util.List;
+
+/**
+ * 기사 대량 저장 리포지토리
+ * <p>JPA를 거치지 않고 다중 행 INSERT로 저장, URL 중복 행은 예외 없이 건너뜀</p>
+ */
+public interface ArticleBulkRepository {
+
+    /**
+     * 기사 대량 저장 - URL이 이미 존재하는 기사는 건너뜀
+     *
+     * @param articles 저장할 기사 (URL 중복 없음)
+     * @return 실제로 저장된 기사 (id 설정됨)
+     */
+    List<Article> insertIgnoringDuplicates(List<Article> articles);
+}
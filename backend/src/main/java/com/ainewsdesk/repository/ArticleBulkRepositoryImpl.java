@@ -0,0 +1,174 @@
+package com.ainewsdesk.repository;
+
+import com.ainewsdesk.entity.Article;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 기사 대량 저장 리포지토리 구현
+ * <p>IDENTITY 키 생성 전략은 Hibernate JDBC 배치를 비활성화하므로 JDBC로 직접 다중 행 INSERT 실행</p>
+ * <p>MySQL은 INSERT ... ON DUPLICATE KEY UPDATE, H2는 MERGE ... WHEN NOT MATCHED 사용</p>
+ * <p>저장 후 URL로 id를 조회하며, 이번 배치의 created_at 값으로 다른 트랜잭션이 저장한 행과 구분</p>
+ */
+public class ArticleBulkRepositoryImpl implements ArticleBulkRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArticleBulkRepositoryImpl.class);
+
+    private static final String COLUMNS = "title, description, content, url, source_name, source_type, "
+            + "priority, category, thumbnail_url, published_at, crawled_at, created_at";
+    private static final int COLUMN_COUNT = 12;
+    private static final int DEFAULT_PRIORITY = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final int rowsPerStatement;
+
+    private volatile Boolean h2;
+
+    public ArticleBulkRepositoryImpl(
+            JdbcTemplate jdbcTemplate,
+            @Value("${article.bulk-insert.rows-per-statement:50}") int rowsPerStatement) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.rowsPerStatement = Math.max(1, rowsPerStatement);
+    }
+
+    @Override
+    public List<Article> insertIgnoringDuplicates(List<Article> articles) {
+        if (articles.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // @PrePersist와 동일하게 저장 시각 설정 - DB 정밀도(마이크로초)에 맞춰 절삭
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        for (Article article : articles) {
+            article.setCrawledAt(now);
+            article.setCreatedAt(now);
+            if (article.getPriority() == null) {
+                article.setPriority(DEFAULT_PRIORITY);
+            }
+        }
+
+        int statements = 0;
+        for (int from = 0; from < articles.size(); from += rowsPerStatement) {
+            List<Article> chunk = articles.subList(from, Math.min(from + rowsPerStatement, articles.size()));
+            jdbcTemplate.update(buildInsertSql(chunk.size()), ps -> bindRows(ps, chunk));
+            statements++;
+        }
+
+        // 저장된 행의 id 조회 (이번 배치 시각과 created_at이 다르면 기존 행)
+        Map<String, Article> articlesByUrl = new HashMap<>();
+        for (Article article : articles) {
+            articlesByUrl.put(article.getUrl(), article);
+        }
+
+        for (int from = 0; from < articles.size(); from += rowsPerStatement) {
+            List<String> urls = articles.subList(from, Math.min(from + rowsPerStatement, articles.size()))
+                    .stream()
+                    .map(Article::getUrl)
+                    .collect(Collectors.toList());
+            namedParameterJdbcTemplate.query(
+                    "SELECT id, url, created_at FROM articles WHERE url IN (:urls)",
+                    new MapSqlParameterSource("urls", urls),
+                    (RowCallbackHandler) rs -> {
+                        Article article = articlesByUrl.get(rs.getString("url"));
+                        LocalDateTime createdAt = rs.getTimestamp("created_at").toLocalDateTime();
+                        if (article != null && createdAt.equals(now)) {
+                            article.setId(rs.getLong("id"));
+                        }
+                    });
+            statements++;
+        }
+
+        // 요청 순서대로 저장된 기사 반환
+        List<Article> inserted = new ArrayList<>();
+        for (Article article : articles) {
+            if (article.getId() != null) {
+                inserted.add(article);
+            }
+        }
+
+        logger.debug("Bulk insert finished. Requested: {}, Inserted: {}, Statements: {}",
+                articles.size(), inserted.size(), statements);
+        return inserted;
+    }
+
+    /**
+     * 다중 행 INSERT SQL 생성
+     */
+    private String buildInsertSql(int rowCount) {
+        String placeholders = "(" + String.join(", ", Collections.nCopies(COLUMN_COUNT, "?")) + ")";
+        String rows = String.join(", ", Collections.nCopies(rowCount, placeholders));
+
+        if (isH2()) {
+            return "MERGE INTO articles t USING (VALUES " + rows + ") s (" + COLUMNS + ") "
+                    + "ON t.url = s.url "
+                    + "WHEN NOT MATCHED THEN INSERT (" + COLUMNS + ") VALUES (s."
+                    + COLUMNS.replace(", ", ", s.") + ")";
+        }
+        return "INSERT INTO articles (" + COLUMNS + ") VALUES " + rows
+                + " ON DUPLICATE KEY UPDATE id = id";
+    }
+
+    /**
+     * 행 파라미터 바인딩 - COLUMNS 순서
+     */
+    private void bindRows(PreparedStatement ps, List<Article> articles) throws SQLException {
+        int index = 1;
+        for (Article article : articles) {
+            ps.setString(index++, article.getTitle());
+            ps.setString(index++, article.getDescription());
+            ps.setString(index++, article.getContent());
+            ps.setString(index++, article.getUrl());
+            ps.setString(index++, article.getSourceName());
+            ps.setString(index++, article.getSourceType().name());
+            ps.setInt(index++, article.getPriority());
+            ps.setString(index++, article.getCategory());
+            ps.setString(index++, article.getThumbnailUrl());
+            setTimestamp(ps, index++, article.getPublishedAt());
+            setTimestamp(ps, index++, article.getCrawledAt());
+            setTimestamp(ps, index++, article.getCreatedAt());
+        }
+    }
+
+    /**
+     * 시각 파라미터 바인딩 - null 허용
+     */
+    private void setTimestamp(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.TIMESTAMP);
+        } else {
+            ps.setTimestamp(index, Timestamp.valueOf(value));
+        }
+    }
+
+    /**
+     * H2 데이터베이스 여부 - 최초 1회 확인
+     */
+    private boolean isH2() {
+        if (h2 == null) {
+            h2 = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "H2".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+        }
+        return h2;
+    }
+}
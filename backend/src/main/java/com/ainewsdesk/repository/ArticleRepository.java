@@ -2,36 +2,54 @@ package com.ainewsdesk.repository;
 
 import com.ainewsdesk.entity.Article;
 import com.ainewsdesk.entity.Article.SourceType;
+import com.ainewsdesk.repository.projection.ArticleListView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ArticleRepository extends JpaRepository<Article, Long> {
+public interface ArticleRepository extends JpaRepository<Article, Long>, ArticleBulkRepository {
+
+    /**
+     * 목록 조회 SELECT 절 - 본문(content) 제외
+     */
+    String LIST_VIEW_SELECT = "SELECT a.id AS id, a.title AS title, a.description AS description, a.url AS url, " +
+            "a.sourceName AS sourceName, a.sourceType AS sourceType, a.category AS category, " +
+            "a.thumbnailUrl AS thumbnailUrl, a.publishedAt AS publishedAt, a.crawledAt AS crawledAt ";
 
     /**
      * 전체 기사 조회 - 크롤링 시간 내림차순
      */
-    Page<Article> findByOrderByCrawledAtDesc(Pageable pageable);
+    Page<ArticleListView> findByOrderByCrawledAtDesc(Pageable pageable);
 
     /**
      * 출처 유형별 기사 조회 - 크롤링 시간 내림차순
      */
-    Page<Article> findBySourceTypeOrderByCrawledAtDesc(SourceType sourceType, Pageable pageable);
+    Page<ArticleListView> findBySourceTypeOrderByCrawledAtDesc(SourceType sourceType, Pageable pageable);
 
     /**
      * 카테고리별 기사 조회 - 크롤링 시간 내림차순
      */
-    Page<Article> findByCategoryOrderByCrawledAtDesc(String category, Pageable pageable);
+    Page<ArticleListView> findByCategoryOrderByCrawledAtDesc(String category, Pageable pageable);
 
     /**
      * 키워드로 기사 검색 - 크롤링 시간 내림차순
      */
-    Page<Article> findByTitleContainingOrderByCrawledAtDesc(String keyword, Pageable pageable);
+    Page<ArticleListView> findByTitleContainingOrderByCrawledAtDesc(String keyword, Pageable pageable);
+
+    /**
+     * ID 목록으로 기사 조회 - 본문 제외
+     */
+    List<ArticleListView> findListByIdIn(Collection<Long> ids);
 
     /**
      * URL로 기사 조회
@@ -41,7 +59,7 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
     /**
      * 기간별 기사 조회 - 크롤링 시간 내림차순
      */
-    Page<Article> findByCrawledAtBetweenOrderByCrawledAtDesc(
+    Page<ArticleListView> findByCrawledAtBetweenOrderByCrawledAtDesc(
             LocalDateTime startDateTime,
             LocalDateTime endDateTime,
             Pageable pageable
@@ -62,8 +80,121 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
      */
     boolean existsByUrl(String url);
 
+    /**
+     * 주어진 URL 중 이미 저장된 URL 조회 - IN 쿼리 1회
+     */
+    @Query("SELECT a.url FROM Article a WHERE a.url IN :urls")
+    List<String> findExistingUrls(@Param("urls") Collection<String> urls);
+
+    /**
+     * 기사 URL 목록 조회 - id 이후 배치 단위 (중복 필터 구성용)
+     */
+    @Query("SELECT a.id AS id, a.url AS url FROM Article a WHERE a.id > :afterId ORDER BY a.id")
+    List<Object[]> findUrlsAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 전체 기사 ID 조회 (검색 색인 동기화용)
+     */
+    @Query("SELECT a.id FROM Article a")
+    List<Long> findAllIds();
+
+    /**
+     * 주어진 ID 중 존재하는 기사 ID 조회
+     */
+    @Query("SELECT a.id FROM Article a WHERE a.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
     /**
      * 특정 시간 이후 기사 개수 조회
      */
     long countByCrawledAtAfter(LocalDateTime startDateTime);
+
+    /**
+     * 기간 내 수집 기사 조회 - (수집 시간, ID) 오름차순 (AI 요약 입력용, 잘린 위치를 커서로 사용)
+     */
+    List<Article> findByCrawledAtBetweenOrderByCrawledAtAscIdAsc(
+            LocalDateTime startDateTime,
+            LocalDateTime endDateTime,
+            Pageable pageable
+    );
+
+    /**
+     * 카테고리별 기간 내 수집 기사 조회 - 수집 시간 오름차순 (주문형 AI 요약 입력용)
+     */
+    List<Article> findByCategoryAndCrawledAtBetweenOrderByCrawledAtAsc(
+            String category,
+            LocalDateTime startDateTime,
+            LocalDateTime endDateTime,
+            Pageable pageable
+    );
+
+    /**
+     * (수집 시간, ID) 커서 이후 수집 기사 조회 - (수집 시간, ID) 오름차순 (AI 요약 증분 입력용)
+     * <p>한 배치로 저장된 기사는 수집 시간이 같으므로 시간만으로는 잘린 배치의 나머지를 구분할 수 없음</p>
+     */
+    @Query("SELECT a FROM Article a " +
+            "WHERE a.crawledAt <= :endDateTime AND a.crawledAt >= :crawledAt " +
+            "AND (a.crawledAt > :crawledAt OR a.id > :id) " +
+            "ORDER BY a.crawledAt ASC, a.id ASC")
+    List<Article> findCrawledAfterCursor(
+            @Param("crawledAt") LocalDateTime crawledAt,
+            @Param("id") Long id,
+            @Param("endDateTime") LocalDateTime endDateTime,
+            Pageable pageable
+    );
+
+    /**
+     * 전체 기사 커서 조회 - (crawledAt, id) 이후 기사, count 쿼리 없음
+     */
+    @Query(LIST_VIEW_SELECT + "FROM Article a " +
+            "WHERE a.crawledAt <= :crawledAt AND (a.crawledAt < :crawledAt OR a.id < :id) " +
+            "ORDER BY a.crawledAt DESC, a.id DESC")
+    Slice<ArticleListView> findFeedAfter(
+            @Param("crawledAt") LocalDateTime crawledAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    /**
+     * 출처 유형별 기사 커서 조회 - (crawledAt, id) 이후 기사, count 쿼리 없음
+     */
+    @Query(LIST_VIEW_SELECT + "FROM Article a " +
+            "WHERE a.sourceType = :sourceType " +
+            "AND a.crawledAt <= :crawledAt AND (a.crawledAt < :crawledAt OR a.id < :id) " +
+            "ORDER BY a.crawledAt DESC, a.id DESC")
+    Slice<ArticleListView> findFeedBySourceTypeAfter(
+            @Param("sourceType") SourceType sourceType,
+            @Param("crawledAt") LocalDateTime crawledAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    /**
+     * 카테고리별 기사 커서 조회 - (crawledAt, id) 이후 기사, count 쿼리 없음
+     */
+    @Query(LIST_VIEW_SELECT + "FROM Article a " +
+            "WHERE a.category = :category " +
+            "AND a.crawledAt <= :crawledAt AND (a.crawledAt < :crawledAt OR a.id < :id) " +
+            "ORDER BY a.crawledAt DESC, a.id DESC")
+    Slice<ArticleListView> findFeedByCategoryAfter(
+            @Param("category") String category,
+            @Param("crawledAt") LocalDateTime crawledAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    /**
+     * 기간별 기사 커서 조회 - (crawledAt, id) 이후 기사, count 쿼리 없음
+     */
+    @Query(LIST_VIEW_SELECT + "FROM Article a " +
+            "WHERE a.crawledAt >= :startDateTime AND a.crawledAt <= :endDateTime " +
+            "AND a.crawledAt <= :crawledAt AND (a.crawledAt < :crawledAt OR a.id < :id) " +
+            "ORDER BY a.crawledAt DESC, a.id DESC")
+    Slice<ArticleListView> findFeedByCrawledAtBetweenAfter(
+            @Param("startDateTime") LocalDateTime startDateTime,
+            @Param("endDateTime") LocalDateTime endDateTime,
+            @Param("crawledAt") LocalDateTime crawledAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
 }
@@ -4,48 +4,45 @@ import com.ainewsdesk.entity.Bookmark;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
-public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
+public interface BookmarkRepository extends JpaRepository<Bookmark, Long>, BookmarkWriteRepository {
 
     /**
      * 사용자별 북마크 조회 - 생성일 내림차순
      */
     Page<Bookmark> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
 
-    /**
-     * 사용자-기사 북마크 조회
-     */
-    Optional<Bookmark> findByUserIdAndArticleId(Long userId, Long articleId);
-
     /**
      * 사용자-기사 북마크 존재 여부 확인
      */
     boolean existsByUserIdAndArticleId(Long userId, Long articleId);
 
     /**
-     * 사용자-기사 북마크 삭제
-     */
-    void deleteByUserIdAndArticleId(Long userId, Long articleId);
-
-    /**
-     * 사용자-AI요약 북마크 조회
+     * 사용자-AI요약 북마크 존재 여부 확인
      */
-    Optional<Bookmark> findByUserIdAndAiSummaryId(Long userId, Long aiSummaryId);
+    boolean existsByUserIdAndAiSummaryId(Long userId, Long aiSummaryId);
 
     /**
-     * 사용자-AI요약 북마크 존재 여부 확인
+     * 사용자-기사 북마크 삭제 - 조회 없이 DELETE 한 문장, 삭제된 행 수 반환
      */
-    boolean existsByUserIdAndAiSummaryId(Long userId, Long aiSummaryId);
+    @Modifying
+    @Query("DELETE FROM Bookmark b WHERE b.userId = :userId AND b.articleId IN :articleIds")
+    int deleteByUserIdAndArticleIds(@Param("userId") Long userId, @Param("articleIds") Collection<Long> articleIds);
 
     /**
-     * 사용자-AI요약 북마크 삭제
+     * 사용자-AI요약 북마크 삭제 - 조회 없이 DELETE 한 문장, 삭제된 행 수 반환
      */
-    void deleteByUserIdAndAiSummaryId(Long userId, Long aiSummaryId);
+    @Modifying
+    @Query("DELETE FROM Bookmark b WHERE b.userId = :userId AND b.aiSummaryId IN :aiSummaryIds")
+    int deleteByUserIdAndAiSummaryIds(@Param("userId") Long userId, @Param("aiSummaryIds") Collection<Long> aiSummaryIds);
 
     /**
      * 사용자별 북마크 개수 조회
@@ -53,12 +50,14 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     long countByUserId(Long userId);
 
     /**
-     * 사용자-기사 목록 북마크 조회 (배치)
+     * 사용자가 북마크한 기사 ID 전체 조회 (북마크 집합 캐시용)
      */
-    List<Bookmark> findByUserIdAndArticleIdIn(Long userId, List<Long> articleIds);
+    @Query("SELECT b.articleId FROM Bookmark b WHERE b.userId = :userId AND b.articleId IS NOT NULL")
+    List<Long> findArticleIdsByUserId(@Param("userId") Long userId);
 
     /**
-     * 사용자-AI요약 목록 북마크 조회 (배치)
+     * 사용자가 북마크한 AI 요약 ID 전체 조회 (북마크 집합 캐시용)
      */
-    List<Bookmark> findByUserIdAndAiSummaryIdIn(Long userId, List<Long> aiSummaryIds);
+    @Query("SELECT b.aiSummaryId FROM Bookmark b WHERE b.userId = :userId AND b.aiSummaryId IS NOT NULL")
+    List<Long> findAiSummaryIdsByUserId(@Param("userId") Long userId);
 }
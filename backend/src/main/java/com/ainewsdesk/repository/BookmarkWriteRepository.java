@@ -0,0 +1,27 @@
+package com.ainewsdesk.repository;
+
+import com.ainewsdesk.entity.Bookmark.BookmarkType;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 북마크 저장 리포지토리
+ * <p>대상(기사/AI 요약) 존재 확인과 중복 제외를 INSERT ... SELECT 한 문장으로 처리</p>
+ */
+public interface BookmarkWriteRepository {
+
+    /**
+     * 북마크 1건 저장 - 대상이 없거나 이미 북마크된 경우 저장하지 않음
+     *
+     * @return 저장된 북마크 ID, 저장되지 않았으면 null
+     */
+    Long insertIgnoringDuplicate(Long userId, BookmarkType bookmarkType, Long itemId, LocalDateTime createdAt);
+
+    /**
+     * 북마크 대량 저장 - 존재하지 않는 대상과 이미 북마크된 항목은 건너뜀
+     *
+     * @return 실제로 저장된 행 수
+     */
+    int insertIgnoringDuplicates(Long userId, BookmarkType bookmarkType, Collection<Long> itemIds, LocalDateTime createdAt);
+}
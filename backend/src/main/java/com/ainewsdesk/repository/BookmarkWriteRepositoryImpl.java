@@ -0,0 +1,96 @@
+package com.ainewsdesk.repository;
+
+import com.ainewsdesk.entity.Bookmark.BookmarkType;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 북마크 저장 리포지토리 구현
+ * <p>대상 테이블에서 SELECT한 행만 INSERT하여 외래 키처럼 존재를 확인하고, (사용자, 대상) 유니크 제약으로 중복 방지</p>
+ * <p>MySQL은 INSERT IGNORE ... SELECT, H2는 MERGE ... WHEN NOT MATCHED 사용</p>
+ */
+public class BookmarkWriteRepositoryImpl implements BookmarkWriteRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private volatile Boolean h2;
+
+    public BookmarkWriteRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    public Long insertIgnoringDuplicate(Long userId, BookmarkType bookmarkType, Long itemId, LocalDateTime createdAt) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        int inserted = namedParameterJdbcTemplate.update(buildInsertSql(bookmarkType),
+                parameters(userId, bookmarkType, List.of(itemId), createdAt), keyHolder, new String[]{"id"});
+        if (inserted == 0) {
+            return null;
+        }
+        Number key = keyHolder.getKey();
+        if (key == null) {
+            throw new DataRetrievalFailureException("Generated bookmark ID was not returned");
+        }
+        return key.longValue();
+    }
+
+    @Override
+    public int insertIgnoringDuplicates(Long userId, BookmarkType bookmarkType, Collection<Long> itemIds, LocalDateTime createdAt) {
+        if (itemIds.isEmpty()) {
+            return 0;
+        }
+        return namedParameterJdbcTemplate.update(buildInsertSql(bookmarkType),
+                parameters(userId, bookmarkType, itemIds, createdAt));
+    }
+
+    private MapSqlParameterSource parameters(Long userId, BookmarkType bookmarkType, Collection<Long> itemIds,
+                                             LocalDateTime createdAt) {
+        return new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("bookmarkType", bookmarkType.name())
+                .addValue("itemIds", itemIds)
+                .addValue("createdAt", Timestamp.valueOf(createdAt));
+    }
+
+    /**
+     * INSERT ... SELECT SQL 생성 - 북마크 타입별 대상 테이블/컬럼
+     */
+    private String buildInsertSql(BookmarkType bookmarkType) {
+        String targetTable = bookmarkType == BookmarkType.ARTICLE ? "articles" : "ai_summaries";
+        String itemColumn = bookmarkType == BookmarkType.ARTICLE ? "article_id" : "ai_summary_id";
+
+        if (isH2()) {
+            return "MERGE INTO bookmarks b USING (SELECT t.id AS item_id FROM " + targetTable + " t "
+                    + "WHERE t.id IN (:itemIds)) s "
+                    + "ON b.user_id = :userId AND b." + itemColumn + " = s.item_id "
+                    + "WHEN NOT MATCHED THEN INSERT (user_id, bookmark_type, " + itemColumn + ", created_at) "
+                    + "VALUES (:userId, :bookmarkType, s.item_id, :createdAt)";
+        }
+        return "INSERT IGNORE INTO bookmarks (user_id, bookmark_type, " + itemColumn + ", created_at) "
+                + "SELECT :userId, :bookmarkType, t.id, :createdAt FROM " + targetTable + " t "
+                + "WHERE t.id IN (:itemIds)";
+    }
+
+    /**
+     * H2 데이터베이스 여부 - 최초 1회 확인
+     */
+    private boolean isH2() {
+        if (h2 == null) {
+            h2 = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "H2".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+        }
+        return h2;
+    }
+}
@@ -0,0 +1,23 @@
+package com.ainewsdesk.repository;
+
+import com.ainewsdesk.entity.LlmResponseCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface LlmResponseCacheRepository extends JpaRepository<LlmResponseCacheEntry, String>, LlmResponseCacheWriteRepository {
+
+    /**
+     * 만료된 캐시 항목 삭제
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM LlmResponseCacheEntry e WHERE e.createdAt < :createdAt")
+    int deleteCreatedBefore(@Param("createdAt") LocalDateTime createdAt);
+}
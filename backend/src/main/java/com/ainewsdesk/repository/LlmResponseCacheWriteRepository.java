@@ -0,0 +1,15 @@
+package com.ainewsdesk.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * LLM 응답 캐시 저장 리포지토리
+ * <p>조회 후 INSERT/UPDATE하는 save 대신 한 문장으로 저장하여 동시 저장 시 중복 키 오류가 나지 않게 함</p>
+ */
+public interface LlmResponseCacheWriteRepository {
+
+    /**
+     * 응답 저장 - 같은 키가 있으면 응답과 생성 시간을 덮어씀
+     */
+    void upsert(String cacheKey, String model, String response, LocalDateTime createdAt);
+}
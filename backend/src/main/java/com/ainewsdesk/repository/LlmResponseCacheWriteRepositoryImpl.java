@@ -0,0 +1,59 @@
+package com.ainewsdesk.repository;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * LLM 응답 캐시 저장 리포지토리 구현
+ * <p>MySQL은 INSERT ... ON DUPLICATE KEY UPDATE, H2는 MERGE ... KEY 사용</p>
+ */
+public class LlmResponseCacheWriteRepositoryImpl implements LlmResponseCacheWriteRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private volatile Boolean h2;
+
+    public LlmResponseCacheWriteRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    public void upsert(String cacheKey, String model, String response, LocalDateTime createdAt) {
+        String sql = isH2()
+                ? "MERGE INTO llm_response_cache (cache_key, model, response, created_at) KEY (cache_key) "
+                        + "VALUES (:cacheKey, :model, :response, :createdAt)"
+                : "INSERT INTO llm_response_cache (cache_key, model, response, created_at) "
+                        + "VALUES (:cacheKey, :model, :response, :createdAt) "
+                        + "ON DUPLICATE KEY UPDATE model = VALUES(model), response = VALUES(response), "
+                        + "created_at = VALUES(created_at)";
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("cacheKey", cacheKey)
+                .addValue("model", model)
+                .addValue("response", response)
+                .addValue("createdAt", Timestamp.valueOf(createdAt));
+        try {
+            namedParameterJdbcTemplate.update(sql, params);
+        } catch (DuplicateKeyException e) {
+            // H2 MERGE는 동시 실행 시 중복 키로 실패할 수 있음 - 같은 입력의 응답이 이미 저장된 것으로 처리
+        }
+    }
+
+    /**
+     * H2 데이터베이스 여부 - 최초 1회 확인
+     */
+    private boolean isH2() {
+        if (h2 == null) {
+            h2 = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "H2".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+        }
+        return h2;
+    }
+}
@@ -0,0 +1,9 @@
+package com.ainewsdesk.repository;
+
+import com.ainewsdesk.entity.PageFetchMetadata;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PageFetchMetadataRepository extends JpaRepository<PageFetchMetadata, String> {
+}
@@ -0,0 +1,47 @@
+package com.ainewsdesk.repository;
+
+import com.ainewsdesk.entity.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String>, SchedulerLeaseWriteRepository {
+
+    /**
+     * 만료된 임대 획득 - 조건부 UPDATE 1건이면 획득 성공 (인스턴스 간 원자적)
+     * <p>만료 비교와 시간 기록은 모두 DB 시계(LOCALTIMESTAMP) 기준 - 인스턴스 간 시계 차이와 무관</p>
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE scheduler_leases SET owner = :owner, locked_at = LOCALTIMESTAMP, " +
+            "heartbeat_at = LOCALTIMESTAMP, expires_at = TIMESTAMPADD(SECOND, :leaseSeconds, LOCALTIMESTAMP) " +
+            "WHERE name = :name AND expires_at <= LOCALTIMESTAMP", nativeQuery = true)
+    int tryAcquire(@Param("name") String name, @Param("owner") String owner,
+                   @Param("leaseSeconds") long leaseSeconds);
+
+    /**
+     * 보유 중인 임대 연장 (DB 시계 기준) - 0이면 이미 다른 인스턴스에 넘어감
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE scheduler_leases SET heartbeat_at = LOCALTIMESTAMP, " +
+            "expires_at = TIMESTAMPADD(SECOND, :leaseSeconds, LOCALTIMESTAMP) " +
+            "WHERE name = :name AND owner = :owner", nativeQuery = true)
+    int extend(@Param("name") String name, @Param("owner") String owner,
+               @Param("leaseSeconds") long leaseSeconds);
+
+    /**
+     * 보유 중인 임대 반납 - 만료 시간을 획득 시각 + 최소 보유 시간(이미 지났으면 지금)으로 앞당김
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE scheduler_leases SET expires_at = " +
+            "GREATEST(TIMESTAMPADD(SECOND, :minHoldSeconds, locked_at), LOCALTIMESTAMP) " +
+            "WHERE name = :name AND owner = :owner", nativeQuery = true)
+    int release(@Param("name") String name, @Param("owner") String owner,
+                @Param("minHoldSeconds") long minHoldSeconds);
+}
@@ -0,0 +1,17 @@
+package com.ainewsdesk.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 임대 행 생성 리포지토리
+ * <p>엔티티 저장(merge)은 동시에 생성된 행을 덮어쓸 수 있으므로 없을 때만 INSERT하는 한 문장으로 처리</p>
+ */
+public interface SchedulerLeaseWriteRepository {
+
+    /**
+     * 임대 행이 없으면 생성 - 이미 있으면 아무것도 바꾸지 않음
+     *
+     * @return 새로 생성했으면 true
+     */
+    boolean insertIfAbsent(String name, LocalDateTime expiresAt);
+}
@@ -0,0 +1,56 @@
+package com.ainewsdesk.repository;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 임대 행 생성 리포지토리 구현
+ * <p>MySQL은 INSERT IGNORE, H2는 MERGE ... WHEN NOT MATCHED 사용</p>
+ */
+public class SchedulerLeaseWriteRepositoryImpl implements SchedulerLeaseWriteRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private volatile Boolean h2;
+
+    public SchedulerLeaseWriteRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    public boolean insertIfAbsent(String name, LocalDateTime expiresAt) {
+        String sql = isH2()
+                ? "MERGE INTO scheduler_leases l USING (SELECT CAST(:name AS VARCHAR(64)) AS name) s "
+                        + "ON l.name = s.name "
+                        + "WHEN NOT MATCHED THEN INSERT (name, expires_at) VALUES (:name, :expiresAt)"
+                : "INSERT IGNORE INTO scheduler_leases (name, expires_at) VALUES (:name, :expiresAt)";
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("name", name)
+                .addValue("expiresAt", Timestamp.valueOf(expiresAt));
+        try {
+            return namedParameterJdbcTemplate.update(sql, params) == 1;
+        } catch (DuplicateKeyException e) {
+            // H2 MERGE는 동시 실행 시 중복 키로 실패할 수 있음 - 이미 생성된 것으로 처리
+            return false;
+        }
+    }
+
+    /**
+     * H2 데이터베이스 여부 - 최초 1회 확인
+     */
+    private boolean isH2() {
+        if (h2 == null) {
+            h2 = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "H2".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+        }
+        return h2;
+    }
+}
@@ -2,6 +2,9 @@ package com.ainewsdesk.repository;
 
 import com.ainewsdesk.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -23,4 +26,17 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * 사용자명으로 사용자 조회
      */
     Optional<User> findByUsername(String username);
+
+    /**
+     * 북마크 변경 버전 증가 - 같은 사용자의 북마크 변경은 이 행 잠금으로 순서가 정해짐
+     */
+    @Modifying
+    @Query(value = "UPDATE users SET bookmark_version = bookmark_version + 1 WHERE id = :userId", nativeQuery = true)
+    int incrementBookmarkVersion(@Param("userId") Long userId);
+
+    /**
+     * 북마크 변경 버전 조회
+     */
+    @Query("SELECT u.bookmarkVersion FROM User u WHERE u.id = :userId")
+    Optional<Long> findBookmarkVersionById(@Param("userId") Long userId);
 }
@@ -0,0 +1,9 @@
+package com.ainewsdesk.repository;
+
+import com.ainewsdesk.entity.YouTubeChannelWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface YouTubeChannelWatermarkRepository extends JpaRepository<YouTubeChannelWatermark, String> {
+}
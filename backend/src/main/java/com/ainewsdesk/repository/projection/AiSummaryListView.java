@@ -0,0 +1,32 @@
+package com.ainewsdesk.repository.projection;
+
+import com.ainewsdesk.entity.AiSummary.SummaryStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 요약 목록 조회용 프로젝션
+ * <p>목록에 필요한 컬럼만 조회, LONGTEXT 본문(content)과 관련 기사 링크는 제외하고 하이라이트는 앞부분만</p>
+ */
+public interface AiSummaryListView {
+
+    Long getId();
+
+    String getTitle();
+
+    LocalDateTime getSummaryPeriodStart();
+
+    LocalDateTime getSummaryPeriodEnd();
+
+    SummaryStatus getStatus();
+
+    String getHighlightPreview();
+
+    Integer getRelatedArticlesCount();
+
+    Integer getVersion();
+
+    LocalDateTime getGeneratedAt();
+
+    LocalDateTime getCreatedAt();
+}
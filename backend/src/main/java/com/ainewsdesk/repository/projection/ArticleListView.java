@@ -0,0 +1,32 @@
+package com.ainewsdesk.repository.projection;
+
+import com.ainewsdesk.entity.Article.SourceType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기사 목록 조회용 프로젝션
+ * <p>ArticleDto에 필요한 컬럼만 조회, LONGTEXT 본문(content)은 제외</p>
+ */
+public interface ArticleListView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    String getUrl();
+
+    String getSourceName();
+
+    SourceType getSourceType();
+
+    String getCategory();
+
+    String getThumbnailUrl();
+
+    LocalDateTime getPublishedAt();
+
+    LocalDateTime getCrawledAt();
+}
@@ -1,11 +1,14 @@
 package com.ainewsdesk.scheduler;
 
 import com.ainewsdesk.entity.AiSummary;
+import com.ainewsdesk.entity.Article;
+import com.ainewsdesk.entity.RelatedArticleLink;
 import com.ainewsdesk.service.AiSummaryService;
 import com.ainewsdesk.service.ArticleService;
 import com.ainewsdesk.service.GeminiService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -19,9 +22,12 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * AI 뉴스 요약 자동 생성 스케줄러
+ * <p>하루 첫 실행에 요약을 만들고, 이후에는 새로 수집된 기사만 반영하여 같은 요약을 갱신</p>
  */
 @Component
 public class AiSummaryScheduler {
@@ -30,31 +36,63 @@ public class AiSummaryScheduler {
 
     private final GeminiService geminiService;
     private final AiSummaryService aiSummaryService;
+    private final ArticleService articleService;
+    private final SchedulerLeaseManager leaseManager;
+    private final int maxArticles;
 
     public AiSummaryScheduler(GeminiService geminiService,
-                             AiSummaryService aiSummaryService) {
+                             AiSummaryService aiSummaryService,
+                             ArticleService articleService,
+                             SchedulerLeaseManager leaseManager,
+                             @Value("${ai-summary.max-articles:300}") int maxArticles) {
         this.geminiService = geminiService;
         this.aiSummaryService = aiSummaryService;
+        this.articleService = articleService;
+        this.leaseManager = leaseManager;
+        this.maxArticles = maxArticles;
     }
 
     /**
-     * AI 뉴스 요약 생성 - 매일 00시, 09~23시
+     * AI 뉴스 요약 생성 - 매일 00시, 09~23시 (여러 인스턴스 중 임대를 얻은 1대만 실행)
      */
     @Scheduled(cron = "0 0 0,9-23 * * *") // 매일 00:00, 09:00 ~ 23:00 정각
     public void generateDailySummary() {
+        leaseManager.runExclusively("ai-summary", this::generateSummary);
+    }
+
+    private void generateSummary() {
         try {
             logger.info("===== AI 뉴스 요약 생성 시작 =====");
 
             LocalDateTime now = LocalDateTime.now();
             LocalDateTime startOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MIN);
 
-            // Gemini API를 사용하여 최신 AI 뉴스 요약 생성
-            logger.info("Gemini API 호출 중... (독립 요약 생성)");
-
-            String prompt = String.format("당신은 AI 뉴스 전문 요약가입니다. 오늘(%s) 기준으로 최신 AI 업계 뉴스, 트렌드, 주요 이슈를 요약해주세요.\n\n다음 내용을 포함해주세요:\n- 최신 AI 모델 출시 소식 (GPT, Claude, Gemini, Llama 등)\n- 주요 AI 기업들의 동향 (OpenAI, Anthropic, Google, Meta 등)\n- AI 기술 발전 및 연구 성과\n- AI 윤리 및 규제 관련 이슈\n- AI 산업 트렌드 및 시장 동향\n\n다음 형식으로 요약을 작성해주세요:\n\n1. 제목 (Title):\n- 오늘의 주요 AI 뉴스를 대표하는 흥미로운 제목 (20자 이내)\n\n2. 주요 하이라이트 (KeyHighlights):\n- 가장 중요한 4-5가지 내용을 불릿 포인트로 요약\n- 각 항목은 한 줄로 간결하게\n\n3. 상세 내용 (Content):\n- **중요: 상세 내용은 반드시 1500자 이내로 작성해주세요**\n- 전체 AI 업계 동향을 종합적으로 상세히 설명\n- 주요 동향, 기술 발전, 업계 영향, 전망 등을 포함\n- 절대 답변을 중간에 끊지 말고 완전히 작성할 것\n\n응답 형식:\nTITLE: [제목]\nHIGHLIGHTS:\n• [하이라이트1]\n• [하이라이트2]\n• [하이라이트3]\nCONTENT:\n[상세 내용 - 1500자 이하]\n\n주의사항: 답변을 절대 중간에 끊지 말고, CONTENT 섹션을 완전히 작성한 후 종료하세요.", LocalDate.now());
-
-            String response = geminiService.generateText(prompt);
-            Map<String, String> summaryResult = geminiService.parseSummaryResponse(response);
+            // 오늘 발행된 요약이 있으면 이후 수집된 기사만 반영하여 갱신
+            // (기사 없이 만든 이전 독립 요약은 기준으로 쓰지 않고 기사 기반 요약을 새로 생성)
+            Optional<AiSummary> existing = aiSummaryService.getPublishedSummaryForPeriod(startOfDay)
+                    .filter(summary -> summary.getRelatedArticlesCount() != null && summary.getRelatedArticlesCount() > 0);
+            if (existing.isPresent()) {
+                reviseSummary(existing.get(), now);
+                return;
+            }
+
+            // 오늘 수집된 기사 조회 - 없으면 생성하지 않음 (00시 실행은 크롤링과 겹쳐 보통 기사가 없음)
+            List<Article> articles = articleService.getArticlesCrawledBetween(startOfDay, now, maxArticles);
+            if (articles.isEmpty()) {
+                logger.info("오늘 수집된 기사 없음 - 요약 생성 생략 (다음 실행에서 재시도)");
+                return;
+            }
+
+            // 최신 발행 요약과 입력 기사가 같으면 생성 생략
+            String inputFingerprint = aiSummaryService.inputFingerprint(startOfDay,
+                    articles.stream().map(Article::getId).collect(Collectors.toList()));
+            if (aiSummaryService.isSameInputAsLatest(inputFingerprint)) {
+                logger.info("새로운 기사 없음 - 요약 생성 생략 (기사 {}개)", articles.size());
+                return;
+            }
+
+            logger.info("Gemini API 호출 중... (기사 {}개 맵-리듀스 요약)", articles.size());
+            Map<String, String> summaryResult = geminiService.summarizeArticles(articles);
 
             logger.info("요약 생성 완료");
             logger.info("제목: {}", summaryResult.get("title"));
@@ -65,8 +103,17 @@ public class AiSummaryScheduler {
             aiSummary.setKeyHighlights(summaryResult.get("keyHighlights"));
             aiSummary.setContent(summaryResult.get("content"));
             aiSummary.setSummaryPeriodStart(startOfDay);
-            aiSummary.setSummaryPeriodEnd(now);
-            aiSummary.setRelatedArticlesCount(0); // 독립 요약이므로 0
+            // 기사 수 한도에 걸렸으면 마지막으로 반영한 기사까지를 기간으로 하여 나머지는 갱신에서 반영
+            Article last = articles.get(articles.size() - 1);
+            boolean truncated = articles.size() >= maxArticles;
+            aiSummary.setSummaryPeriodEnd(truncated ? last.getCrawledAt() : now);
+            aiSummary.setPeriodEndArticleId(truncated ? last.getId() : null);
+            aiSummary.setRelatedArticlesCount(articles.size());
+            aiSummary.setInputFingerprint(inputFingerprint);
+            for (Article article : articles) {
+                aiSummary.getRelatedArticles().add(
+                        new RelatedArticleLink(article.getId(), article.getTitle(), article.getUrl()));
+            }
             aiSummary.setStatus(AiSummary.SummaryStatus.PUBLISHED); // 바로 발행
 
             AiSummary savedSummary = aiSummaryService.createSummary(aiSummary);
@@ -79,6 +126,39 @@ public class AiSummaryScheduler {
         }
     }
 
+    /**
+     * 요약 증분 갱신 - 이전 요약 기간 끝 이후 수집된 기사만 입력으로 사용
+     */
+    private void reviseSummary(AiSummary summary, LocalDateTime now) {
+        List<Article> newArticles = articleService.getArticlesCrawledAfter(
+                summary.getSummaryPeriodEnd(), summary.getPeriodEndArticleId(), now, maxArticles);
+        if (newArticles.isEmpty()) {
+            logger.info("새로운 기사 없음 - 요약 갱신 생략 (ID: {}, 버전: {})", summary.getId(), summary.getVersion());
+            return;
+        }
+
+        // 한 번에 다 반영하지 못한 기사는 다음 실행에서 (수집 시간, ID) 커서 이후부터 이어서 반영
+        Article last = newArticles.get(newArticles.size() - 1);
+        boolean truncated = newArticles.size() >= maxArticles;
+        LocalDateTime periodEnd = truncated ? last.getCrawledAt() : now;
+        Long periodEndArticleId = truncated ? last.getId() : null;
+
+        logger.info("Gemini API 호출 중... (요약 ID {} 증분 갱신, 새 기사 {}개)", summary.getId(), newArticles.size());
+        Map<String, String> previous = new HashMap<>();
+        previous.put("title", summary.getTitle());
+        previous.put("keyHighlights", summary.getKeyHighlights());
+        previous.put("content", summary.getContent());
+        Map<String, String> updated = geminiService.updateSummary(previous, newArticles);
+
+        String inputFingerprint = aiSummaryService.nextInputFingerprint(summary.getInputFingerprint(),
+                newArticles.stream().map(Article::getId).collect(Collectors.toList()));
+        AiSummary revised = aiSummaryService.reviseSummary(summary.getId(), updated, newArticles, periodEnd,
+                periodEndArticleId, inputFingerprint);
+
+        logger.info("AI 요약 갱신 완료. ID: {}, 버전: {}", revised.getId(), revised.getVersion());
+        logger.info("===== AI 뉴스 요약 갱신 완료 =====");
+    }
+
     /**
      * AI 뉴스 요약 생성 - 매일 10시, 22시 (프로덕션용)
      */
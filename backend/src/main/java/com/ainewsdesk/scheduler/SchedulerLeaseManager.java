@@ -0,0 +1,203 @@
+package com.ainewsdesk.scheduler;
+
+import com.ainewsdesk.repository.SchedulerLeaseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB 임대(lease) 기반 스케줄 작업 잠금
+ * <p>여러 인스턴스가 같은 시각에 스케줄을 실행해도 임대를 얻은 1대만 작업 수행</p>
+ * <p>실행 중에는 하트비트로 임대를 연장하고, 보유 인스턴스가 죽으면 임대 만료 후 다른 인스턴스가 이어받음</p>
+ * <p>만료 판단과 시간 기록은 DB 시계 기준이라 인스턴스 간 시계 차이로 두 대가 동시에 보유하지 않음</p>
+ * <p>연장에 실패하여 임대를 잃으면(다른 인스턴스가 가져갔거나 임대 기간 내내 연장 실패) 실행 중인 작업 스레드를 인터럽트</p>
+ * <p>작업이 금방 끝나도 최소 보유 시간 동안은 임대를 유지하여 스케줄이 조금 늦게 도는 인스턴스의 중복 실행 방지</p>
+ */
+@Component
+public class SchedulerLeaseManager {
+
+    private static final Logger log = LoggerFactory.getLogger(SchedulerLeaseManager.class);
+    // 행 생성 시 만료 시간 - 이미 만료된 상태로 만들어 바로 획득할 수 있게 함
+    private static final LocalDateTime NEVER_LOCKED = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    private final SchedulerLeaseRepository leaseRepository;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final String owner;
+    private final Duration leaseDuration;
+    private final Duration heartbeatInterval;
+    private final Duration minHold;
+    private final ScheduledExecutorService heartbeatExecutor;
+
+    public SchedulerLeaseManager(
+            SchedulerLeaseRepository leaseRepository,
+            MeterRegistry meterRegistry,
+            @Value("${scheduler.lease.enabled:true}") boolean enabled,
+            @Value("${scheduler.lease.owner:}") String owner,
+            @Value("${scheduler.lease.duration-seconds:120}") long leaseSeconds,
+            @Value("${scheduler.lease.heartbeat-seconds:30}") long heartbeatSeconds,
+            @Value("${scheduler.lease.min-hold-seconds:60}") long minHoldSeconds) {
+        this.leaseRepository = leaseRepository;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.owner = owner.isBlank() ? defaultOwner() : owner;
+        this.leaseDuration = Duration.ofSeconds(leaseSeconds);
+        this.heartbeatInterval = Duration.ofSeconds(Math.max(1, heartbeatSeconds));
+        this.minHold = Duration.ofSeconds(minHoldSeconds);
+        this.heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("scheduler-lease-"));
+        log.info("스케줄 임대 관리자 초기화 (owner: {}, 사용: {})", this.owner, enabled);
+    }
+
+    /**
+     * 임대를 얻은 경우에만 작업 실행
+     *
+     * @param jobName 스케줄 작업 이름 (인스턴스 간 동일해야 함)
+     * @param job     실행할 작업
+     * @return 실행 여부 (다른 인스턴스가 실행 중이면 false)
+     */
+    public boolean runExclusively(String jobName, Runnable job) {
+        if (!enabled) {
+            job.run();
+            return true;
+        }
+
+        long acquiredAtNanos = System.nanoTime();
+        if (!tryAcquire(jobName)) {
+            log.info("[임대] {} - 다른 인스턴스가 실행 중이므로 건너뜀", jobName);
+            meterRegistry.counter("scheduler.lease", "job", jobName, "result", "skipped").increment();
+            return false;
+        }
+        meterRegistry.counter("scheduler.lease", "job", jobName, "result", "acquired").increment();
+        log.debug("[임대] {} - 획득 (owner: {})", jobName, owner);
+
+        RunningJob running = new RunningJob(Thread.currentThread(), acquiredAtNanos);
+        long heartbeatMillis = heartbeatInterval.toMillis();
+        ScheduledFuture<?> heartbeat = heartbeatExecutor.scheduleAtFixedRate(
+                () -> extend(jobName, running), heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+        try {
+            job.run();
+            return true;
+        } finally {
+            heartbeat.cancel(false);
+            running.finish();
+            release(jobName);
+        }
+    }
+
+    /**
+     * 임대 획득 시도 - 행이 없으면 만료된 상태로 먼저 생성
+     * <p>생성은 없을 때만 INSERT하므로 다른 인스턴스가 방금 획득한 행을 덮어쓰지 않음</p>
+     */
+    private boolean tryAcquire(String jobName) {
+        if (!leaseRepository.existsById(jobName) && !leaseRepository.insertIfAbsent(jobName, NEVER_LOCKED)) {
+            // 다른 인스턴스가 먼저 생성
+            log.debug("[임대] {} - 행 동시 생성", jobName);
+        }
+        return leaseRepository.tryAcquire(jobName, owner, leaseDuration.getSeconds()) == 1;
+    }
+
+    /**
+     * 하트비트 - 임대 만료 시간 연장, 임대를 잃었으면 작업 중단
+     * <p>연장 실패(DB 오류)가 임대 기간 동안 이어지면 다른 인스턴스가 가져갔을 수 있으므로 잃은 것으로 처리</p>
+     */
+    private void extend(String jobName, RunningJob running) {
+        if (running.isRevoked()) {
+            return;
+        }
+        try {
+            if (leaseRepository.extend(jobName, owner, leaseDuration.getSeconds()) == 0) {
+                log.warn("[임대] {} - 임대를 잃음 (다른 인스턴스가 가져감), 작업 중단", jobName);
+                meterRegistry.counter("scheduler.lease", "job", jobName, "result", "lost").increment();
+                running.revoke();
+                return;
+            }
+            running.renewedAtNanos = System.nanoTime();
+        } catch (Exception e) {
+            log.warn("[임대] {} - 하트비트 실패: {}", jobName, e.getMessage());
+            if (System.nanoTime() - running.renewedAtNanos >= leaseDuration.toNanos()) {
+                log.warn("[임대] {} - 임대 기간 동안 연장하지 못함, 작업 중단", jobName);
+                meterRegistry.counter("scheduler.lease", "job", jobName, "result", "lost").increment();
+                running.revoke();
+            }
+        }
+    }
+
+    /**
+     * 임대 반납 - 최소 보유 시간까지는 유지 (DB 시계 기준)
+     */
+    private void release(String jobName) {
+        try {
+            leaseRepository.release(jobName, owner, minHold.getSeconds());
+        } catch (Exception e) {
+            // 반납에 실패해도 임대는 만료 시간이 지나면 풀림
+            log.warn("[임대] {} - 반납 실패: {}", jobName, e.getMessage());
+        }
+    }
+
+    /**
+     * 하트비트 스레드 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        heartbeatExecutor.shutdownNow();
+    }
+
+    /**
+     * 임대를 보유하고 실행 중인 작업 - 임대를 잃으면 작업 스레드 인터럽트
+     * <p>작업이 끝난 뒤에는 인터럽트하지 않고, 이 클래스가 보낸 인터럽트는 스케줄 스레드에 남기지 않음</p>
+     */
+    private static final class RunningJob {
+
+        private final Thread thread;
+        private volatile long renewedAtNanos;
+        private boolean revoked;
+        private boolean finished;
+
+        private RunningJob(Thread thread, long acquiredAtNanos) {
+            this.thread = thread;
+            this.renewedAtNanos = acquiredAtNanos;
+        }
+
+        private synchronized boolean isRevoked() {
+            return revoked;
+        }
+
+        private synchronized void revoke() {
+            if (!finished && !revoked) {
+                revoked = true;
+                thread.interrupt();
+            }
+        }
+
+        private synchronized void finish() {
+            finished = true;
+            if (revoked) {
+                Thread.interrupted();
+            }
+        }
+    }
+
+    private static String defaultOwner() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,409 @@
+package com.ainewsdesk.search;
+
+import com.ainewsdesk.entity.Article;
+import com.ainewsdesk.event.ArticleChangedEvent;
+import com.ainewsdesk.repository.ArticleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 기사 전문 검색 역색인
+ * <p>제목/요약/본문을 토큰화하여 메모리에 역색인 구성, BM25 점수로 순위화된 검색 결과 제공</p>
+ * <p>기동 시 articles 테이블 전체로 색인 구성, 이후 {@link ArticleChangedEvent}로 증분 갱신</p>
+ * <p>다른 인스턴스(크롤러 리스 보유 노드)에서 저장/삭제된 기사는 주기적 동기화로 반영</p>
+ */
+@Component
+public class ArticleSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArticleSearchIndex.class);
+
+    // 필드별 가중치 (제목 > 요약 > 본문)
+    private static final int TITLE_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final ArticleRepository articleRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, IndexedDocument> documents = new HashMap<>();
+    private long totalLength = 0;
+
+    private volatile boolean ready = false;
+
+    public ArticleSearchIndex(ArticleRepository articleRepository) {
+        this.articleRepository = articleRepository;
+    }
+
+    /**
+     * 기동 시 전체 색인 구성 - 배치 단위로 기사 로드
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long startTime = System.currentTimeMillis();
+        ready = false;
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            PageRequest pageRequest = PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.by(Sort.Direction.ASC, "id"));
+            Page<Article> page;
+            do {
+                page = articleRepository.findAll(pageRequest);
+                for (Article article : page.getContent()) {
+                    index(article);
+                }
+                pageRequest = pageRequest.next();
+            } while (page.hasNext());
+
+            ready = true;
+            logger.info("Article search index built. Documents: {}, Terms: {}, Took: {}ms",
+                    size(), termCount(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            logger.error("Failed to build article search index. Falling back to database search.", e);
+        }
+    }
+
+    /**
+     * 주기적 동기화 - DB의 기사 ID 집합과 비교하여 색인에 없는 기사는 추가, 사라진 기사는 제거
+     * <p>ID 워터마크 대신 ID 집합을 비교하므로 늦게 커밋되어 ID 순서가 어긋난 기사도 빠뜨리지 않음</p>
+     */
+    @Scheduled(fixedDelayString = "${search.index.sync-interval-ms:60000}",
+            initialDelayString = "${search.index.sync-interval-ms:60000}")
+    public synchronized void synchronize() {
+        if (!ready) {
+            rebuild();
+            return;
+        }
+        try {
+            Set<Long> databaseIds = new HashSet<>(articleRepository.findAllIds());
+            List<Long> missing = new ArrayList<>();
+            List<Long> stale = new ArrayList<>();
+            lock.readLock().lock();
+            try {
+                for (Long id : databaseIds) {
+                    if (!documents.containsKey(id)) {
+                        missing.add(id);
+                    }
+                }
+                for (Long id : documents.keySet()) {
+                    if (!databaseIds.contains(id)) {
+                        stale.add(id);
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            for (List<Long> batch : partition(missing)) {
+                for (Article article : articleRepository.findAllById(batch)) {
+                    index(article);
+                }
+            }
+            int removed = 0;
+            for (List<Long> batch : partition(stale)) {
+                // ID 목록 조회 후 저장되어 이벤트로 색인된 기사는 남김
+                Set<Long> existing = new HashSet<>(articleRepository.findExistingIds(batch));
+                for (Long id : batch) {
+                    if (!existing.contains(id)) {
+                        remove(id);
+                        removed++;
+                    }
+                }
+            }
+            if (!missing.isEmpty() || removed > 0) {
+                logger.info("Article search index synchronized. Added: {}, Removed: {}, Documents: {}",
+                        missing.size(), removed, size());
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to synchronize article search index. Keeping current index.", e);
+        }
+    }
+
+    /**
+     * 기사 변경 반영 - 트랜잭션 커밋 후 실행
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.getChangeType() == ArticleChangedEvent.ChangeType.SAVED) {
+            for (Article article : event.getArticles()) {
+                index(article);
+            }
+        } else {
+            for (Long articleId : event.getArticleIds()) {
+                remove(articleId);
+            }
+        }
+    }
+
+    /**
+     * 기사 색인 - 기존 색인이 있으면 교체
+     */
+    public void index(Article article) {
+        if (article == null || article.getId() == null) {
+            return;
+        }
+
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        int length = 0;
+        length += addTerms(termFrequencies, article.getTitle(), TITLE_WEIGHT);
+        length += addTerms(termFrequencies, article.getDescription(), DESCRIPTION_WEIGHT);
+        length += addTerms(termFrequencies, article.getContent(), CONTENT_WEIGHT);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(article.getId());
+
+            for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), key -> new HashMap<>())
+                        .put(article.getId(), entry.getValue());
+            }
+            documents.put(article.getId(),
+                    new IndexedDocument(termFrequencies.keySet(), length, article.getCrawledAt()));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 기사 색인 제거
+     */
+    public void remove(Long articleId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(articleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 검색 - 모든 검색어 토큰을 포함하는 기사를 점수순으로 반환
+     *
+     * @param query 검색어
+     * @param offset 시작 위치
+     * @param limit 최대 결과 수
+     * @return 페이지 범위의 기사 ID 목록과 전체 결과 수
+     */
+    public SearchResult search(String query, long offset, int limit) {
+        Set<String> queryTerms = new LinkedHashSet<>(TextTokenizer.tokenize(query));
+        if (queryTerms.isEmpty()) {
+            return new SearchResult(Collections.emptyList(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            // 문서 빈도가 가장 낮은 토큰부터 교집합 계산
+            List<Map<Long, Integer>> termPostings = new ArrayList<>();
+            for (String term : queryTerms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    return new SearchResult(Collections.emptyList(), 0);
+                }
+                termPostings.add(posting);
+            }
+            termPostings.sort(Comparator.comparingInt(Map::size));
+
+            int documentCount = documents.size();
+            double averageLength = documentCount > 0 ? (double) totalLength / documentCount : 1.0;
+
+            List<ScoredDocument> hits = new ArrayList<>();
+            for (Long articleId : termPostings.get(0).keySet()) {
+                double score = 0;
+                boolean matchesAll = true;
+                IndexedDocument document = documents.get(articleId);
+
+                for (Map<Long, Integer> posting : termPostings) {
+                    Integer frequency = posting.get(articleId);
+                    if (frequency == null) {
+                        matchesAll = false;
+                        break;
+                    }
+                    double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                    double normalization = K1 * (1 - B + B * document.length / averageLength);
+                    score += idf * (frequency * (K1 + 1)) / (frequency + normalization);
+                }
+
+                if (matchesAll) {
+                    hits.add(new ScoredDocument(articleId, score, document.crawledAt));
+                }
+            }
+
+            hits.sort(ScoredDocument.ORDER);
+
+            List<Long> pageIds = new ArrayList<>();
+            for (long i = offset; i < hits.size() && pageIds.size() < limit; i++) {
+                pageIds.add(hits.get((int) i).articleId);
+            }
+            return new SearchResult(pageIds, hits.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 구성 완료 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 색인된 기사 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 토큰 수
+     */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 필드 토큰을 가중치와 함께 누적, 추가된 토큰 수 반환
+     */
+    private int addTerms(Map<String, Integer> termFrequencies, String text, int weight) {
+        List<String> tokens = TextTokenizer.tokenize(text);
+        for (String token : tokens) {
+            termFrequencies.merge(token, weight, Integer::sum);
+        }
+        return tokens.size();
+    }
+
+    private static List<List<Long>> partition(List<Long> ids) {
+        List<List<Long>> batches = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += REBUILD_BATCH_SIZE) {
+            batches.add(ids.subList(i, Math.min(i + REBUILD_BATCH_SIZE, ids.size())));
+        }
+        return batches;
+    }
+
+    /**
+     * 색인 제거 - 쓰기 잠금 보유 상태에서 호출
+     */
+    private void removeInternal(Long articleId) {
+        IndexedDocument existing = documents.remove(articleId);
+        if (existing == null) {
+            return;
+        }
+
+        for (String term : existing.terms) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(articleId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= existing.length;
+    }
+
+    /**
+     * 검색 결과 - 페이지 범위 기사 ID와 전체 결과 수
+     */
+    public static class SearchResult {
+
+        private final List<Long> articleIds;
+        private final long totalHits;
+
+        public SearchResult(List<Long> articleIds, long totalHits) {
+            this.articleIds = articleIds;
+            this.totalHits = totalHits;
+        }
+
+        public List<Long> getArticleIds() {
+            return articleIds;
+        }
+
+        public long getTotalHits() {
+            return totalHits;
+        }
+    }
+
+    /**
+     * 색인된 문서 정보
+     */
+    private static class IndexedDocument {
+
+        private final Set<String> terms;
+        private final int length;
+        private final LocalDateTime crawledAt;
+
+        IndexedDocument(Set<String> terms, int length, LocalDateTime crawledAt) {
+            this.terms = terms;
+            this.length = length;
+            this.crawledAt = crawledAt;
+        }
+    }
+
+    /**
+     * 점수가 매겨진 검색 결과 항목
+     */
+    private static class ScoredDocument {
+
+        // 점수 내림차순, 동점이면 최신 크롤링순, ID 내림차순
+        private static final Comparator<ScoredDocument> ORDER = Comparator
+                .comparingDouble((ScoredDocument d) -> d.score).reversed()
+                .thenComparing(d -> d.crawledAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(d -> d.articleId, Comparator.reverseOrder());
+
+        private final Long articleId;
+        private final double score;
+        private final LocalDateTime crawledAt;
+
+        ScoredDocument(Long articleId, double score, LocalDateTime crawledAt) {
+            this.articleId = articleId;
+            this.score = score;
+            this.crawledAt = crawledAt;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.ainewsdesk.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색 색인용 토크나이저
+ * <p>영문/숫자는 단어 단위 소문자 토큰, 한글·한자·가나는 음절 bigram 토큰으로 분리</p>
+ * <p>한글은 조사가 붙은 어절("모델은", "모델을")도 bigram("모델")으로 매칭되도록 형태소 분석 없이 처리</p>
+ */
+public final class TextTokenizer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from",
+            "in", "is", "it", "of", "on", "or", "that", "the", "to", "with"
+    );
+
+    private TextTokenizer() {
+    }
+
+    /**
+     * 텍스트 토큰화 - 중복 포함, 등장 순서 유지
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        StringBuilder run = new StringBuilder();
+        boolean cjkRun = false;
+
+        int i = 0;
+        while (i < text.length()) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (!Character.isLetterOrDigit(codePoint)) {
+                flush(run, cjkRun, tokens);
+                continue;
+            }
+
+            boolean cjk = isCjk(codePoint);
+            if (run.length() > 0 && cjk != cjkRun) {
+                flush(run, cjkRun, tokens);
+            }
+            cjkRun = cjk;
+            run.appendCodePoint(codePoint);
+        }
+        flush(run, cjkRun, tokens);
+
+        return tokens;
+    }
+
+    /**
+     * 누적된 문자열을 토큰으로 변환
+     */
+    private static void flush(StringBuilder run, boolean cjkRun, List<String> tokens) {
+        if (run.length() == 0) {
+            return;
+        }
+
+        if (cjkRun) {
+            int[] codePoints = run.codePoints().toArray();
+            if (codePoints.length == 1) {
+                tokens.add(new String(codePoints, 0, 1));
+            } else {
+                for (int j = 0; j + 1 < codePoints.length; j++) {
+                    tokens.add(new String(codePoints, j, 2));
+                }
+            }
+        } else {
+            String word = run.toString().toLowerCase(Locale.ROOT);
+            if ((word.length() > 1 || Character.isDigit(word.charAt(0))) && !STOP_WORDS.contains(word)) {
+                tokens.add(word);
+            }
+        }
+
+        run.setLength(0);
+    }
+
+    /**
+     * 한글/한자/가나 여부 확인
+     */
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
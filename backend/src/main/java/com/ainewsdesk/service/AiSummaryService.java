@@ -1,19 +1,31 @@
 package com.ainewsdesk.service;
 
+import com.ainewsdesk.dto.AiSummaryListDto;
 import com.ainewsdesk.entity.AiSummary;
+import com.ainewsdesk.entity.AiSummaryRevision;
+import com.ainewsdesk.entity.Article;
+import com.ainewsdesk.entity.RelatedArticleLink;
 import com.ainewsdesk.entity.AiSummary.SummaryStatus;
+import com.ainewsdesk.event.AiSummaryChangedEvent;
 import com.ainewsdesk.exception.ResourceNotFoundException;
+import com.ainewsdesk.mapper.AiSummaryMapper;
 import com.ainewsdesk.repository.AiSummaryRepository;
+import com.ainewsdesk.repository.AiSummaryRevisionRepository;
+import com.ainewsdesk.util.HashUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * AI 요약 관리 서비스
@@ -26,23 +38,32 @@ public class AiSummaryService {
     private static final Logger logger = LoggerFactory.getLogger(AiSummaryService.class);
 
     private final AiSummaryRepository aiSummaryRepository;
-
-    public AiSummaryService(AiSummaryRepository aiSummaryRepository) {
+    private final AiSummaryRevisionRepository revisionRepository;
+    private final AiSummaryMapper aiSummaryMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public AiSummaryService(AiSummaryRepository aiSummaryRepository,
+                            AiSummaryRevisionRepository revisionRepository,
+                            AiSummaryMapper aiSummaryMapper,
+                            ApplicationEventPublisher eventPublisher) {
         this.aiSummaryRepository = aiSummaryRepository;
+        this.revisionRepository = revisionRepository;
+        this.aiSummaryMapper = aiSummaryMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
-     * 전체 AI 요약 조회 - 최신순 정렬
+     * 전체 AI 요약 조회 - 최신순 정렬, 본문 제외
      */
-    public Page<AiSummary> getAllSummaries(Pageable pageable) {
-        return aiSummaryRepository.findByOrderBySummaryPeriodStartDesc(pageable);
+    public Page<AiSummaryListDto> getAllSummaries(Pageable pageable) {
+        return aiSummaryRepository.findListBy(pageable).map(aiSummaryMapper::toListDto);
     }
 
     /**
-     * 발행된 AI 요약 조회 - PUBLISHED 상태만
+     * 발행된 AI 요약 조회 - PUBLISHED 상태만, 본문 제외
      */
-    public Page<AiSummary> getPublishedSummaries(Pageable pageable) {
-        return aiSummaryRepository.findByStatusOrderBySummaryPeriodStartDesc(SummaryStatus.PUBLISHED, pageable);
+    public Page<AiSummaryListDto> getPublishedSummaries(Pageable pageable) {
+        return aiSummaryRepository.findListByStatus(SummaryStatus.PUBLISHED, pageable).map(aiSummaryMapper::toListDto);
     }
 
     /**
@@ -59,12 +80,64 @@ public class AiSummaryService {
         return aiSummaryRepository.findLatestPublished();
     }
 
+    /**
+     * 기간 시작이 같은 발행 요약 조회 - 증분 갱신 대상
+     */
+    public Optional<AiSummary> getPublishedSummaryForPeriod(LocalDateTime periodStart) {
+        return aiSummaryRepository.findFirstBySummaryPeriodStartAndStatusOrderByIdDesc(periodStart, SummaryStatus.PUBLISHED);
+    }
+
+    /**
+     * AI 요약 이전 버전 조회 - 최신 버전부터
+     */
+    public List<AiSummaryRevision> getRevisions(Long id) {
+        if (!aiSummaryRepository.existsById(id)) {
+            throw new ResourceNotFoundException("AI 요약을 찾을 수 없습니다. ID: " + id);
+        }
+        return revisionRepository.findBySummaryIdOrderByVersionDesc(id);
+    }
+
+    /**
+     * 입력 기사 집합 지문 계산 - 기간 시작과 기사 ID 집합이 같으면 같은 값
+     */
+    public String inputFingerprint(LocalDateTime periodStart, Collection<Long> articleIds) {
+        String ids = articleIds.stream()
+                .sorted()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+        return HashUtils.sha256Hex(periodStart + "|" + ids);
+    }
+
+    /**
+     * 증분 갱신 후 지문 계산 - 이전 지문에 새 기사 ID 집합을 이어서 계산
+     */
+    public String nextInputFingerprint(String previousFingerprint, Collection<Long> newArticleIds) {
+        String ids = newArticleIds.stream()
+                .sorted()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+        return HashUtils.sha256Hex(previousFingerprint + "|" + ids);
+    }
+
+    /**
+     * 최신 발행 요약과 입력 기사 집합이 같은지 확인
+     */
+    public boolean isSameInputAsLatest(String inputFingerprint) {
+        return aiSummaryRepository.findLatestPublished()
+                .map(latest -> inputFingerprint.equals(latest.getInputFingerprint()))
+                .orElse(false);
+    }
+
     /**
      * AI 요약 상세 조회
      */
     public AiSummary getSummaryById(Long id) {
-        return aiSummaryRepository.findById(id)
+        AiSummary summary = aiSummaryRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("AI 요약을 찾을 수 없습니다. ID: " + id));
+
+        // 트랜잭션 밖에서 직렬화할 수 있도록 관련 기사 링크 로드
+        summary.getRelatedArticles().size();
+        return summary;
     }
 
     /**
@@ -76,8 +149,56 @@ public class AiSummaryService {
         if (summary.getStatus() == null) {
             summary.setStatus(SummaryStatus.DRAFT);
         }
+        if (summary.getVersion() == null) {
+            summary.setVersion(1);
+        }
+
+        AiSummary savedSummary = aiSummaryRepository.save(summary);
+
+        // 최신 요약 스냅샷 갱신 (커밋 후)
+        eventPublisher.publishEvent(new AiSummaryChangedEvent(savedSummary.getId()));
+        return savedSummary;
+    }
+
+    /**
+     * AI 요약 증분 갱신 - 현재 내용을 이전 버전으로 보관한 뒤 같은 행을 새 내용으로 수정
+     *
+     * @param id 갱신할 요약 ID
+     * @param updated 새 요약 (title, keyHighlights, content)
+     * @param newArticles 이번에 반영한 기사
+     * @param periodEnd 새 기간 끝
+     * @param periodEndArticleId 기간 끝에서 잘린 경우 마지막으로 반영한 기사 ID (모두 반영했으면 null)
+     * @param inputFingerprint 새 입력 기사 집합 지문
+     */
+    @Transactional
+    public AiSummary reviseSummary(Long id, Map<String, String> updated, List<Article> newArticles,
+                                   LocalDateTime periodEnd, Long periodEndArticleId, String inputFingerprint) {
+        AiSummary summary = aiSummaryRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("AI 요약을 찾을 수 없습니다. ID: " + id));
+
+        // 현재 버전 보관
+        revisionRepository.save(new AiSummaryRevision(null, summary.getId(), summary.getVersion(),
+                summary.getTitle(), summary.getContent(), summary.getKeyHighlights(),
+                summary.getSummaryPeriodEnd(), summary.getRelatedArticlesCount(), summary.getGeneratedAt()));
+
+        summary.setTitle(updated.get("title"));
+        summary.setKeyHighlights(updated.get("keyHighlights"));
+        summary.setContent(updated.get("content"));
+        summary.setSummaryPeriodEnd(periodEnd);
+        summary.setPeriodEndArticleId(periodEndArticleId);
+        summary.setInputFingerprint(inputFingerprint);
+        summary.setVersion(summary.getVersion() + 1);
+        summary.setGeneratedAt(LocalDateTime.now());
+        for (Article article : newArticles) {
+            summary.getRelatedArticles().add(
+                    new RelatedArticleLink(article.getId(), article.getTitle(), article.getUrl()));
+        }
+        summary.setRelatedArticlesCount(summary.getRelatedArticles().size());
 
-        return aiSummaryRepository.save(summary);
+        logger.info("AI summary revised. ID: {}, Version: {}, New articles: {}",
+                summary.getId(), summary.getVersion(), newArticles.size());
+        eventPublisher.publishEvent(new AiSummaryChangedEvent(summary.getId()));
+        return summary;
     }
 
     /**
@@ -93,7 +214,9 @@ public class AiSummaryService {
         summary.setStatus(SummaryStatus.PUBLISHED);
 
         // 저장 (JPA dirty checking에 의해 자동 업데이트)
-        return aiSummaryRepository.save(summary);
+        AiSummary publishedSummary = aiSummaryRepository.save(summary);
+        eventPublisher.publishEvent(new AiSummaryChangedEvent(id));
+        return publishedSummary;
     }
 
     /**
@@ -106,7 +229,9 @@ public class AiSummaryService {
             throw new ResourceNotFoundException("AI 요약을 찾을 수 없습니다. ID: " + id);
         }
 
-        // 삭제
+        // 삭제 (이전 버전 포함)
+        revisionRepository.deleteBySummaryId(id);
         aiSummaryRepository.deleteById(id);
+        eventPublisher.publishEvent(new AiSummaryChangedEvent(id));
     }
 }
@@ -0,0 +1,142 @@
+package com.ainewsdesk.service;
+
+import com.ainewsdesk.entity.AiSummary;
+import com.ainewsdesk.entity.Article;
+import com.ainewsdesk.entity.RelatedArticleLink;
+import com.ainewsdesk.exception.BadRequestException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 주문형 AI 요약 스트리밍 서비스
+ * <p>선택한 기간/카테고리의 기사로 요약을 생성하며 텍스트 조각을 SSE로 바로 전송, 완료되면 DRAFT로 저장</p>
+ * <p>이벤트 순서: articles(입력 기사 수) → chunk(텍스트 조각, 여러 번) → summary(저장된 요약) 또는 error</p>
+ * <p>클라이언트 연결이 끊기거나 제한 시간이 지나면 생성을 중단하고 저장하지 않음</p>
+ */
+@Service
+public class AiSummaryStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AiSummaryStreamService.class);
+
+    private final GeminiService geminiService;
+    private final AiSummaryService aiSummaryService;
+    private final ArticleService articleService;
+    private final int maxArticles;
+    private final long timeoutMillis;
+
+    public AiSummaryStreamService(GeminiService geminiService,
+                                  AiSummaryService aiSummaryService,
+                                  ArticleService articleService,
+                                  @Value("${ai-summary.max-articles:300}") int maxArticles,
+                                  @Value("${ai-summary.stream.timeout-seconds:180}") long timeoutSeconds) {
+        this.geminiService = geminiService;
+        this.aiSummaryService = aiSummaryService;
+        this.articleService = articleService;
+        this.maxArticles = maxArticles;
+        this.timeoutMillis = timeoutSeconds * 1000;
+    }
+
+    /**
+     * 요약 스트리밍 시작 - 입력 기사만 조회하고 바로 반환, 생성과 저장은 비동기로 진행
+     *
+     * @param category 카테고리 (null이면 전체)
+     * @throws BadRequestException 기간 내 기사가 없을 때
+     */
+    public SseEmitter streamSummary(LocalDateTime start, LocalDateTime end, String category) {
+        List<Article> articles = category == null || category.isBlank()
+                ? articleService.getArticlesCrawledBetween(start, end, maxArticles)
+                : articleService.getArticlesCrawledBetween(start, end, category, maxArticles);
+        if (articles.isEmpty()) {
+            throw new BadRequestException("요약할 기사가 없습니다.");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        AtomicBoolean connected = new AtomicBoolean(true);
+
+        // 첫 이벤트는 생성 시작 전에 보내 클라이언트가 바로 응답을 받도록 함
+        send(emitter, connected, "articles", Map.of("count", articles.size()));
+        logger.info("On-demand summary stream started. Range: {} ~ {}, Category: {}, Articles: {}",
+                start, end, category, articles.size());
+
+        // 조각 전송에 실패하면 예외로 스트림 읽기를 멈춤
+        CompletableFuture<Map<String, String>> generation = geminiService.streamSummary(articles, chunk -> {
+            send(emitter, connected, "chunk", Map.of("text", chunk));
+            if (!connected.get()) {
+                throw new CancellationException("Summary stream client disconnected");
+            }
+        });
+        // 연결이 끝나면(끊김/제한 시간/오류) 생성 중단 - 정상 완료 후에는 이미 끝난 future라 영향 없음
+        Runnable disconnect = () -> {
+            connected.set(false);
+            generation.cancel(true);
+        };
+        emitter.onCompletion(disconnect);
+        emitter.onTimeout(disconnect);
+        emitter.onError(error -> disconnect.run());
+
+        generation
+                .thenApply(result -> save(result, articles, start, end))
+                .whenComplete((saved, error) -> {
+                    if (error != null && !connected.get()) {
+                        logger.info("On-demand summary stream stopped after client disconnect");
+                    } else if (error != null) {
+                        logger.error("On-demand summary stream failed", error);
+                        send(emitter, connected, "error", Map.of("message", "AI 요약 생성에 실패했습니다."));
+                    } else {
+                        logger.info("On-demand summary saved. ID: {}", saved.getId());
+                        send(emitter, connected, "summary", saved);
+                    }
+                    emitter.complete();
+                });
+        return emitter;
+    }
+
+    /**
+     * 생성된 요약 저장 - 발행은 별도로 하도록 DRAFT 상태로 저장
+     */
+    private AiSummary save(Map<String, String> result, List<Article> articles, LocalDateTime start, LocalDateTime end) {
+        AiSummary summary = new AiSummary();
+        summary.setTitle(result.get("title"));
+        summary.setKeyHighlights(result.get("keyHighlights"));
+        summary.setContent(result.get("content"));
+        summary.setSummaryPeriodStart(start);
+        summary.setSummaryPeriodEnd(end);
+        summary.setRelatedArticlesCount(articles.size());
+        summary.setInputFingerprint(aiSummaryService.inputFingerprint(start,
+                articles.stream().map(Article::getId).collect(Collectors.toList())));
+        for (Article article : articles) {
+            summary.getRelatedArticles().add(
+                    new RelatedArticleLink(article.getId(), article.getTitle(), article.getUrl()));
+        }
+        summary.setStatus(AiSummary.SummaryStatus.DRAFT);
+        return aiSummaryService.createSummary(summary);
+    }
+
+    /**
+     * 이벤트 전송 - 연결이 끊긴 뒤에는 전송하지 않음
+     */
+    private void send(SseEmitter emitter, AtomicBoolean connected, String name, Object data) {
+        if (!connected.get()) {
+            return;
+        }
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            connected.set(false);
+            logger.debug("Summary stream client disconnected: {}", e.getMessage());
+        }
+    }
+}
@@ -1,22 +1,47 @@
 package com.ainewsdesk.service;
 
+import com.ainewsdesk.cache.ArticleFeedCache;
 import com.ainewsdesk.dto.ArticleDetailDto;
 import com.ainewsdesk.dto.ArticleDto;
+import com.ainewsdesk.dto.ArticleIngestResult;
 import com.ainewsdesk.dto.CreateArticleRequest;
+import com.ainewsdesk.dto.CursorPageDto;
 import com.ainewsdesk.entity.Article;
 import com.ainewsdesk.entity.Article.SourceType;
+import com.ainewsdesk.event.ArticleChangedEvent;
+import com.ainewsdesk.exception.BadRequestException;
 import com.ainewsdesk.exception.ConflictException;
 import com.ainewsdesk.exception.ResourceNotFoundException;
 import com.ainewsdesk.mapper.ArticleMapper;
 import com.ainewsdesk.repository.ArticleRepository;
+import com.ainewsdesk.repository.projection.ArticleListView;
+import com.ainewsdesk.search.ArticleSearchIndex;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 뉴스 기사 관리 서비스
@@ -28,44 +53,97 @@ public class ArticleService {
 
     private static final Logger logger = LoggerFactory.getLogger(ArticleService.class);
 
+    // 첫 페이지 커서 조회 시 시작점 (MySQL DATETIME 최대값)
+    private static final LocalDateTime FEED_START_CRAWLED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final String CURSOR_SEPARATOR = "|";
+
     private final ArticleRepository articleRepository;
     private final ArticleMapper articleMapper;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ArticleFeedCache articleFeedCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DistributionSummary listPageBytes;
 
-    public ArticleService(ArticleRepository articleRepository, ArticleMapper articleMapper) {
+    public ArticleService(ArticleRepository articleRepository,
+                          ArticleMapper articleMapper,
+                          ArticleSearchIndex articleSearchIndex,
+                          ArticleFeedCache articleFeedCache,
+                          ApplicationEventPublisher eventPublisher,
+                          MeterRegistry meterRegistry) {
         this.articleRepository = articleRepository;
         this.articleMapper = articleMapper;
+        this.articleSearchIndex = articleSearchIndex;
+        this.articleFeedCache = articleFeedCache;
+        this.eventPublisher = eventPublisher;
+        this.listPageBytes = DistributionSummary.builder("article.list.page.bytes")
+                .description("Estimated column bytes read from the database per article list page")
+                .baseUnit("bytes")
+                .register(meterRegistry);
     }
 
     /**
-     * 전체 기사 조회 - 최신순 정렬
+     * 전체 기사 조회 - 최신순 정렬, 캐시 우선
+     * <p>캐시 적중 시 DB 커넥션을 점유하지 않도록 트랜잭션을 시작하지 않음</p>
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Page<ArticleDto> getAllArticles(Pageable pageable) {
-        Page<Article> articles = articleRepository.findByOrderByCrawledAtDesc(pageable);
-        return articles.map(articleMapper::toDto);
+        return articleFeedCache.get("all", pageable, () -> {
+            Page<ArticleListView> articles = articleRepository.findByOrderByCrawledAtDesc(pageable);
+            recordListPageBytes(articles.getContent());
+            return articles.map(articleMapper::toDto);
+        });
     }
 
     /**
-     * 출처 타입별 기사 조회
+     * 출처 타입별 기사 조회 - 캐시 우선
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Page<ArticleDto> getArticlesBySourceType(SourceType sourceType, Pageable pageable) {
-        Page<Article> articles = articleRepository.findBySourceTypeOrderByCrawledAtDesc(sourceType, pageable);
-        return articles.map(articleMapper::toDto);
+        return articleFeedCache.get("source:" + sourceType.name(), pageable, () -> {
+            Page<ArticleListView> articles = articleRepository.findBySourceTypeOrderByCrawledAtDesc(sourceType, pageable);
+            recordListPageBytes(articles.getContent());
+            return articles.map(articleMapper::toDto);
+        });
     }
 
     /**
-     * 카테고리별 기사 조회
+     * 카테고리별 기사 조회 - 캐시 우선
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Page<ArticleDto> getArticlesByCategory(String category, Pageable pageable) {
-        Page<Article> articles = articleRepository.findByCategoryOrderByCrawledAtDesc(category, pageable);
-        return articles.map(articleMapper::toDto);
+        return articleFeedCache.get("category:" + category, pageable, () -> {
+            Page<ArticleListView> articles = articleRepository.findByCategoryOrderByCrawledAtDesc(category, pageable);
+            recordListPageBytes(articles.getContent());
+            return articles.map(articleMapper::toDto);
+        });
     }
 
     /**
-     * 제목 키워드 검색
+     * 키워드 검색 - 제목/요약/본문 역색인, 관련도순 정렬
+     * <p>색인 구성 전에는 제목 LIKE 검색으로 대체</p>
      */
     public Page<ArticleDto> searchArticles(String keyword, Pageable pageable) {
-        Page<Article> articles = articleRepository.findByTitleContainingOrderByCrawledAtDesc(keyword, pageable);
-        return articles.map(articleMapper::toDto);
+        if (!articleSearchIndex.isReady()) {
+            logger.debug("Search index not ready. Falling back to title LIKE search. Keyword: {}", keyword);
+            Page<ArticleListView> articles = articleRepository.findByTitleContainingOrderByCrawledAtDesc(keyword, pageable);
+            recordListPageBytes(articles.getContent());
+            return articles.map(articleMapper::toDto);
+        }
+
+        ArticleSearchIndex.SearchResult result =
+                articleSearchIndex.search(keyword, pageable.getOffset(), pageable.getPageSize());
+
+        // 색인 순위를 유지한 채 페이지 범위 기사만 조회
+        Map<Long, ArticleListView> articlesById = articleRepository.findListByIdIn(result.getArticleIds()).stream()
+                .collect(Collectors.toMap(ArticleListView::getId, Function.identity()));
+        recordListPageBytes(articlesById.values());
+        List<ArticleDto> content = result.getArticleIds().stream()
+                .map(articlesById::get)
+                .filter(Objects::nonNull)
+                .map(articleMapper::toDto)
+                .collect(Collectors.toList());
+
+        return new PageImpl<>(content, pageable, result.getTotalHits());
     }
 
     /**
@@ -85,10 +163,51 @@ public class ArticleService {
      * 시간 범위별 기사 조회
      */
     public Page<ArticleDto> getArticlesByDateRange(LocalDateTime start, LocalDateTime end, Pageable pageable) {
-        Page<Article> articles = articleRepository.findByCrawledAtBetweenOrderByCrawledAtDesc(start, end, pageable);
+        Page<ArticleListView> articles = articleRepository.findByCrawledAtBetweenOrderByCrawledAtDesc(start, end, pageable);
+        recordListPageBytes(articles.getContent());
         return articles.map(articleMapper::toDto);
     }
 
+    /**
+     * 전체 기사 커서 조회 - 최신순, count 쿼리 없음
+     */
+    public CursorPageDto<ArticleDto> getArticleFeed(String cursor, int size) {
+        FeedCursor feedCursor = decodeCursor(cursor);
+        Slice<ArticleListView> articles = articleRepository.findFeedAfter(
+                feedCursor.crawledAt, feedCursor.id, PageRequest.of(0, size));
+        return toCursorPage(articles);
+    }
+
+    /**
+     * 출처 타입별 기사 커서 조회
+     */
+    public CursorPageDto<ArticleDto> getArticleFeedBySourceType(SourceType sourceType, String cursor, int size) {
+        FeedCursor feedCursor = decodeCursor(cursor);
+        Slice<ArticleListView> articles = articleRepository.findFeedBySourceTypeAfter(
+                sourceType, feedCursor.crawledAt, feedCursor.id, PageRequest.of(0, size));
+        return toCursorPage(articles);
+    }
+
+    /**
+     * 카테고리별 기사 커서 조회
+     */
+    public CursorPageDto<ArticleDto> getArticleFeedByCategory(String category, String cursor, int size) {
+        FeedCursor feedCursor = decodeCursor(cursor);
+        Slice<ArticleListView> articles = articleRepository.findFeedByCategoryAfter(
+                category, feedCursor.crawledAt, feedCursor.id, PageRequest.of(0, size));
+        return toCursorPage(articles);
+    }
+
+    /**
+     * 시간 범위별 기사 커서 조회
+     */
+    public CursorPageDto<ArticleDto> getArticleFeedByDateRange(LocalDateTime start, LocalDateTime end, String cursor, int size) {
+        FeedCursor feedCursor = decodeCursor(cursor);
+        Slice<ArticleListView> articles = articleRepository.findFeedByCrawledAtBetweenAfter(
+                start, end, feedCursor.crawledAt, feedCursor.id, PageRequest.of(0, size));
+        return toCursorPage(articles);
+    }
+
     /**
      * 기사 생성 - URL 중복 체크
      */
@@ -115,6 +234,7 @@ public class ArticleService {
 
         // 저장
         Article savedArticle = articleRepository.save(article);
+        eventPublisher.publishEvent(ArticleChangedEvent.saved(List.of(savedArticle)));
         logger.info("Article saved successfully. ID: {}, Title: {}", savedArticle.getId(), savedArticle.getTitle());
 
         return articleMapper.toDto(savedArticle);
@@ -146,6 +266,7 @@ public class ArticleService {
 
         // 저장 (JPA dirty checking에 의해 자동 업데이트)
         Article updatedArticle = articleRepository.save(article);
+        eventPublisher.publishEvent(ArticleChangedEvent.saved(List.of(updatedArticle)));
         logger.info("Article updated successfully. ID: {}, Title: {}", updatedArticle.getId(), updatedArticle.getTitle());
 
         return articleMapper.toDto(updatedArticle);
@@ -164,9 +285,33 @@ public class ArticleService {
 
         // 삭제
         articleRepository.deleteById(id);
+        eventPublisher.publishEvent(ArticleChangedEvent.deleted(id));
         logger.info("Article deleted successfully. ID: {}", id);
     }
 
+    /**
+     * 크롤링 기사 일괄 저장 - 다중 행 INSERT, URL 중복 기사는 건너뜀
+     */
+    @Transactional
+    public ArticleIngestResult saveCrawledArticles(List<Article> articles) {
+        // 요청 내 중복 URL 제거 (먼저 나온 기사 유지)
+        Map<String, Article> uniqueArticles = new LinkedHashMap<>();
+        for (Article article : articles) {
+            uniqueArticles.putIfAbsent(article.getUrl(), article);
+        }
+
+        List<Article> insertedArticles = articleRepository.insertIgnoringDuplicates(new ArrayList<>(uniqueArticles.values()));
+        int skippedCount = articles.size() - insertedArticles.size();
+
+        if (!insertedArticles.isEmpty()) {
+            eventPublisher.publishEvent(ArticleChangedEvent.saved(insertedArticles));
+        }
+        logger.info("Crawled articles saved successfully. Inserted: {}, Skipped: {}",
+                insertedArticles.size(), skippedCount);
+
+        return new ArticleIngestResult(insertedArticles, insertedArticles.size(), skippedCount);
+    }
+
     /**
      * 출처 타입별 기사 개수 조회
      */
@@ -189,10 +334,139 @@ public class ArticleService {
         return articleRepository.countByCrawledAtAfter(startOfDay);
     }
 
+    /**
+     * 기간 내 수집 기사 조회 - AI 요약 입력용, 최대 limit개
+     */
+    public List<Article> getArticlesCrawledBetween(LocalDateTime start, LocalDateTime end, int limit) {
+        return articleRepository.findByCrawledAtBetweenOrderByCrawledAtAscIdAsc(start, end, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 카테고리별 기간 내 수집 기사 조회 - 주문형 AI 요약 입력용, 최대 limit개
+     */
+    public List<Article> getArticlesCrawledBetween(LocalDateTime start, LocalDateTime end, String category, int limit) {
+        return articleRepository.findByCategoryAndCrawledAtBetweenOrderByCrawledAtAsc(
+                category, start, end, PageRequest.of(0, limit));
+    }
+
+    /**
+     * (수집 시간, ID) 커서 이후 수집 기사 조회 - AI 요약 증분 입력용, 최대 limit개
+     *
+     * @param afterId 수집 시간이 after와 같은 기사 중 이 ID까지는 제외 (null이면 after 시점 기사 모두 제외)
+     */
+    public List<Article> getArticlesCrawledAfter(LocalDateTime after, Long afterId, LocalDateTime end, int limit) {
+        return articleRepository.findCrawledAfterCursor(
+                after, afterId != null ? afterId : Long.MAX_VALUE, end, PageRequest.of(0, limit));
+    }
+
     /**
      * 전체 기사 개수 조회
      */
     public long getTotalArticleCount() {
         return articleRepository.count();
     }
+
+    /**
+     * Slice → 커서 페이지 변환 - 마지막 항목으로 다음 커서 생성
+     */
+    private CursorPageDto<ArticleDto> toCursorPage(Slice<ArticleListView> articles) {
+        recordListPageBytes(articles.getContent());
+        List<ArticleDto> content = articles.map(articleMapper::toDto).getContent();
+
+        String nextCursor = null;
+        if (articles.hasNext() && !content.isEmpty()) {
+            ArticleDto last = content.get(content.size() - 1);
+            nextCursor = encodeCursor(last.getCrawledAt(), last.getId());
+        }
+
+        return new CursorPageDto<>(content, content.size(), articles.hasNext(), nextCursor);
+    }
+
+    /**
+     * 목록 페이지 조회 바이트 추정치 기록 - 프로젝션 적용 효과 측정용
+     */
+    private void recordListPageBytes(Collection<ArticleListView> rows) {
+        long bytes = 0;
+        for (ArticleListView row : rows) {
+            bytes += Long.BYTES * 3; // id, publishedAt, crawledAt
+            bytes += utf8Length(row.getTitle());
+            bytes += utf8Length(row.getDescription());
+            bytes += utf8Length(row.getUrl());
+            bytes += utf8Length(row.getSourceName());
+            bytes += row.getSourceType() != null ? row.getSourceType().name().length() : 0;
+            bytes += utf8Length(row.getCategory());
+            bytes += utf8Length(row.getThumbnailUrl());
+        }
+        listPageBytes.record(bytes);
+    }
+
+    /**
+     * 문자열 UTF-8 바이트 길이 계산 - 바이트 배열 생성 없이 계산
+     */
+    private static int utf8Length(String text) {
+        if (text == null) {
+            return 0;
+        }
+
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * 커서 인코딩 - (crawledAt, id)를 URL-safe Base64 문자열로 변환
+     */
+    private String encodeCursor(LocalDateTime crawledAt, Long id) {
+        String raw = crawledAt + CURSOR_SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 디코딩 - 커서가 없으면 첫 페이지 시작점 반환
+     */
+    private FeedCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return new FeedCursor(FEED_START_CRAWLED_AT, Long.MAX_VALUE);
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(CURSOR_SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("Missing cursor separator");
+            }
+            LocalDateTime crawledAt = LocalDateTime.parse(raw.substring(0, separatorIndex));
+            Long id = Long.parseLong(raw.substring(separatorIndex + 1));
+            return new FeedCursor(crawledAt, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            logger.warn("Invalid article feed cursor: {}", cursor);
+            throw new BadRequestException("Invalid cursor. Please use the nextCursor value returned by the previous page.");
+        }
+    }
+
+    /**
+     * 피드 커서 - 마지막으로 조회한 기사의 (crawledAt, id)
+     */
+    private static class FeedCursor {
+
+        private final LocalDateTime crawledAt;
+        private final Long id;
+
+        FeedCursor(LocalDateTime crawledAt, Long id) {
+            this.crawledAt = crawledAt;
+            this.id = id;
+        }
+    }
 }
@@ -1,10 +1,12 @@
 package com.ainewsdesk.service;
 
+import com.ainewsdesk.cache.BookmarkMembershipCache;
 import com.ainewsdesk.dto.ArticleDto;
+import com.ainewsdesk.dto.BookmarkBatchResult;
 import com.ainewsdesk.dto.BookmarkDto;
 import com.ainewsdesk.entity.AiSummary;
-import com.ainewsdesk.entity.Article;
 import com.ainewsdesk.entity.Bookmark;
+import com.ainewsdesk.event.BookmarkChangedEvent;
 import com.ainewsdesk.exception.BadRequestException;
 import com.ainewsdesk.exception.ConflictException;
 import com.ainewsdesk.exception.ResourceNotFoundException;
@@ -12,14 +14,18 @@ import com.ainewsdesk.mapper.ArticleMapper;
 import com.ainewsdesk.repository.AiSummaryRepository;
 import com.ainewsdesk.repository.ArticleRepository;
 import com.ainewsdesk.repository.BookmarkRepository;
+import com.ainewsdesk.repository.UserRepository;
+import com.ainewsdesk.repository.projection.ArticleListView;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -38,16 +44,25 @@ public class BookmarkService {
     private final BookmarkRepository bookmarkRepository;
     private final ArticleRepository articleRepository;
     private final AiSummaryRepository aiSummaryRepository;
+    private final UserRepository userRepository;
     private final ArticleMapper articleMapper;
+    private final BookmarkMembershipCache membershipCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public BookmarkService(BookmarkRepository bookmarkRepository,
                           ArticleRepository articleRepository,
                           AiSummaryRepository aiSummaryRepository,
-                          ArticleMapper articleMapper) {
+                          UserRepository userRepository,
+                          ArticleMapper articleMapper,
+                          BookmarkMembershipCache membershipCache,
+                          ApplicationEventPublisher eventPublisher) {
         this.bookmarkRepository = bookmarkRepository;
         this.articleRepository = articleRepository;
         this.aiSummaryRepository = aiSummaryRepository;
+        this.userRepository = userRepository;
         this.articleMapper = articleMapper;
+        this.membershipCache = membershipCache;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -69,10 +84,10 @@ public class BookmarkService {
                 .collect(Collectors.toList());
 
         // 배치 조회: 한 번에 모든 기사 로드
-        final Map<Long, Article> articlesMap;
+        final Map<Long, ArticleListView> articlesMap;
         if (!articleIds.isEmpty()) {
-            articlesMap = articleRepository.findAllById(articleIds).stream()
-                    .collect(Collectors.toMap(Article::getId, article -> article));
+            articlesMap = articleRepository.findListByIdIn(articleIds).stream()
+                    .collect(Collectors.toMap(ArticleListView::getId, article -> article));
         } else {
             articlesMap = new HashMap<>();
         }
@@ -95,97 +110,146 @@ public class BookmarkService {
     }
 
     /**
-     * 북마크 추가 - 중복 체크
+     * 북마크 추가 - 대상 존재 확인과 중복 방지를 INSERT 한 문장으로 처리
+     * <p>저장되지 않은 경우에만 원인(이미 북마크됨/대상 없음)을 조회하여 예외 구분</p>
      */
     @Transactional
     public BookmarkDto addBookmark(Long userId, Bookmark.BookmarkType bookmarkType, Long articleId, Long aiSummaryId) {
-        // 북마크 타입별 검증 및 처리
+        Long itemId = requireItemId(userId, bookmarkType, articleId, aiSummaryId);
+
+        LocalDateTime createdAt = LocalDateTime.now();
+        Long bookmarkId = bookmarkRepository.insertIgnoringDuplicate(userId, bookmarkType, itemId, createdAt);
+        if (bookmarkId == null) {
+            throw rejectedAddition(userId, bookmarkType, itemId);
+        }
+        logger.info("Bookmark added successfully. ID: {}, User ID: {}, Type: {}", bookmarkId, userId, bookmarkType);
+        eventPublisher.publishEvent(BookmarkChangedEvent.added(userId, bookmarkType, List.of(itemId),
+                nextBookmarkVersion(userId)));
+
+        Bookmark bookmark = new Bookmark(bookmarkId, userId, bookmarkType,
+                bookmarkType == Bookmark.BookmarkType.ARTICLE ? itemId : null,
+                bookmarkType == Bookmark.BookmarkType.AI_SUMMARY ? itemId : null,
+                createdAt);
+        return convertToDto(bookmark);
+    }
+
+    /**
+     * 북마크 대량 추가 - 존재하지 않는 대상과 이미 북마크된 항목은 건너뜀
+     */
+    @Transactional
+    public BookmarkBatchResult addBookmarks(Long userId, Bookmark.BookmarkType bookmarkType, List<Long> itemIds) {
+        List<Long> distinctIds = itemIds.stream().distinct().collect(Collectors.toList());
+        int inserted = bookmarkRepository.insertIgnoringDuplicates(userId, bookmarkType, distinctIds, LocalDateTime.now());
+
+        if (inserted == distinctIds.size()) {
+            eventPublisher.publishEvent(BookmarkChangedEvent.added(userId, bookmarkType, distinctIds,
+                    nextBookmarkVersion(userId)));
+        } else if (inserted > 0) {
+            // 어떤 항목이 건너뛰어졌는지 알 수 없으므로 캐시된 집합을 다시 로드
+            eventPublisher.publishEvent(BookmarkChangedEvent.reload(userId, bookmarkType, nextBookmarkVersion(userId)));
+        }
+        logger.info("Bookmarks added in batch. User ID: {}, Type: {}, Requested: {}, Added: {}",
+                userId, bookmarkType, distinctIds.size(), inserted);
+        return new BookmarkBatchResult(distinctIds.size(), inserted);
+    }
+
+    /**
+     * 북마크 삭제 - 조회 없이 DELETE 한 문장, 삭제된 행이 없으면 예외
+     */
+    @Transactional
+    public void removeBookmark(Long userId, Bookmark.BookmarkType bookmarkType, Long articleId, Long aiSummaryId) {
+        Long itemId = requireItemId(userId, bookmarkType, articleId, aiSummaryId);
+
+        if (deleteBookmarks(userId, bookmarkType, List.of(itemId)) == 0) {
+            logger.warn("Bookmark removal failed: bookmark not found. User ID: {}, Type: {}, Item ID: {}",
+                    userId, bookmarkType, itemId);
+            throw new ResourceNotFoundException(bookmarkType == Bookmark.BookmarkType.ARTICLE
+                    ? "북마크를 찾을 수 없습니다. User ID: " + userId + ", Article ID: " + itemId
+                    : "북마크를 찾을 수 없습니다. User ID: " + userId + ", AI Summary ID: " + itemId);
+        }
+        logger.info("Bookmark removed successfully. User ID: {}, Type: {}, Item ID: {}", userId, bookmarkType, itemId);
+    }
+
+    /**
+     * 북마크 대량 삭제 - 북마크되지 않은 항목은 건너뜀
+     */
+    @Transactional
+    public BookmarkBatchResult removeBookmarks(Long userId, Bookmark.BookmarkType bookmarkType, List<Long> itemIds) {
+        List<Long> distinctIds = itemIds.stream().distinct().collect(Collectors.toList());
+        int deleted = deleteBookmarks(userId, bookmarkType, distinctIds);
+        logger.info("Bookmarks removed in batch. User ID: {}, Type: {}, Requested: {}, Removed: {}",
+                userId, bookmarkType, distinctIds.size(), deleted);
+        return new BookmarkBatchResult(distinctIds.size(), deleted);
+    }
+
+    /**
+     * 타입별 DELETE 실행 - 삭제된 행이 있으면 변경 이벤트 발행 (없는 항목을 빼는 것은 캐시에 영향 없음)
+     */
+    private int deleteBookmarks(Long userId, Bookmark.BookmarkType bookmarkType, List<Long> itemIds) {
+        int deleted = bookmarkType == Bookmark.BookmarkType.ARTICLE
+                ? bookmarkRepository.deleteByUserIdAndArticleIds(userId, itemIds)
+                : bookmarkRepository.deleteByUserIdAndAiSummaryIds(userId, itemIds);
+        if (deleted > 0) {
+            eventPublisher.publishEvent(BookmarkChangedEvent.removed(userId, bookmarkType, itemIds,
+                    nextBookmarkVersion(userId)));
+        }
+        return deleted;
+    }
+
+    /**
+     * 사용자 북마크 버전 증가 후 새 버전 반환 - 다른 인스턴스의 캐시는 조회 시 버전이 달라진 것을 보고 다시 로드
+     */
+    private long nextBookmarkVersion(Long userId) {
+        userRepository.incrementBookmarkVersion(userId);
+        return userRepository.findBookmarkVersionById(userId).orElse(0L);
+    }
+
+    /**
+     * 북마크 타입에 맞는 항목 ID 반환 - 없으면 예외
+     */
+    private Long requireItemId(Long userId, Bookmark.BookmarkType bookmarkType, Long articleId, Long aiSummaryId) {
         if (bookmarkType == Bookmark.BookmarkType.ARTICLE) {
             if (articleId == null) {
-                logger.warn("Bookmark addition failed: article ID is null for user {}", userId);
+                logger.warn("Bookmark request failed: article ID is null for user {}", userId);
                 throw new BadRequestException("기사 북마크의 경우 기사 ID는 필수입니다.");
             }
-            // 이미 북마크된 기사인지 확인
-            if (bookmarkRepository.existsByUserIdAndArticleId(userId, articleId)) {
-                logger.warn("Bookmark addition failed: article already bookmarked. User ID: {}, Article ID: {}", userId, articleId);
-                throw new ConflictException("이미 북마크에 추가된 기사입니다. Article ID: " + articleId);
-            }
-            // Article 존재 확인
-            Article article = articleRepository.findById(articleId)
-                    .orElseThrow(() -> {
-                        logger.warn("Bookmark addition failed: article not found. ID: {}", articleId);
-                        return new ResourceNotFoundException("기사를 찾을 수 없습니다. ID: " + articleId);
-                    });
-        } else if (bookmarkType == Bookmark.BookmarkType.AI_SUMMARY) {
-            if (aiSummaryId == null) {
-                logger.warn("Bookmark addition failed: AI summary ID is null for user {}", userId);
-                throw new BadRequestException("AI 요약 북마크의 경우 AI 요약 ID는 필수입니다.");
-            }
-            // 이미 북마크된 AI 요약인지 확인
-            if (bookmarkRepository.existsByUserIdAndAiSummaryId(userId, aiSummaryId)) {
-                logger.warn("Bookmark addition failed: AI summary already bookmarked. User ID: {}, AI Summary ID: {}", userId, aiSummaryId);
-                throw new ConflictException("이미 북마크에 추가된 AI 요약입니다. AI Summary ID: " + aiSummaryId);
-            }
-            // AiSummary 존재 확인
-            AiSummary aiSummary = aiSummaryRepository.findById(aiSummaryId)
-                    .orElseThrow(() -> {
-                        logger.warn("Bookmark addition failed: AI summary not found. ID: {}", aiSummaryId);
-                        return new ResourceNotFoundException("AI 요약을 찾을 수 없습니다. ID: " + aiSummaryId);
-                    });
+            return articleId;
         }
-
-        // Bookmark 엔티티 생성
-        Bookmark bookmark = new Bookmark();
-        bookmark.setUserId(userId);
-        bookmark.setBookmarkType(bookmarkType);
-        bookmark.setArticleId(articleId);
-        bookmark.setAiSummaryId(aiSummaryId);
-
-        // 저장
-        Bookmark savedBookmark = bookmarkRepository.save(bookmark);
-        logger.info("Bookmark added successfully. ID: {}, User ID: {}, Type: {}", savedBookmark.getId(), userId, bookmarkType);
-
-        return convertToDto(savedBookmark);
+        if (aiSummaryId == null) {
+            logger.warn("Bookmark request failed: AI summary ID is null for user {}", userId);
+            throw new BadRequestException("AI 요약 북마크의 경우 AI 요약 ID는 필수입니다.");
+        }
+        return aiSummaryId;
     }
 
     /**
-     * 북마크 삭제
+     * 저장되지 않은 북마크 추가의 원인 구분 - 이미 북마크됨(409) 또는 대상 없음(404)
      */
-    @Transactional
-    public void removeBookmark(Long userId, Bookmark.BookmarkType bookmarkType, Long articleId, Long aiSummaryId) {
-        if (bookmarkType == Bookmark.BookmarkType.ARTICLE && articleId != null) {
-            // 북마크 존재 확인
-            Bookmark bookmark = bookmarkRepository.findByUserIdAndArticleId(userId, articleId)
-                    .orElseThrow(() -> {
-                        logger.warn("Bookmark removal failed: bookmark not found. User ID: {}, Article ID: {}", userId, articleId);
-                        return new ResourceNotFoundException(
-                                "북마크를 찾을 수 없습니다. User ID: " + userId + ", Article ID: " + articleId);
-                    });
-            // 삭제
-            bookmarkRepository.deleteByUserIdAndArticleId(userId, articleId);
-            logger.info("Article bookmark removed successfully. User ID: {}, Article ID: {}", userId, articleId);
-        } else if (bookmarkType == Bookmark.BookmarkType.AI_SUMMARY && aiSummaryId != null) {
-            // 북마크 존재 확인
-            Bookmark bookmark = bookmarkRepository.findByUserIdAndAiSummaryId(userId, aiSummaryId)
-                    .orElseThrow(() -> {
-                        logger.warn("Bookmark removal failed: bookmark not found. User ID: {}, AI Summary ID: {}", userId, aiSummaryId);
-                        return new ResourceNotFoundException(
-                                "북마크를 찾을 수 없습니다. User ID: " + userId + ", AI Summary ID: " + aiSummaryId);
-                    });
-            // 삭제
-            bookmarkRepository.deleteByUserIdAndAiSummaryId(userId, aiSummaryId);
-            logger.info("AI summary bookmark removed successfully. User ID: {}, AI Summary ID: {}", userId, aiSummaryId);
+    private RuntimeException rejectedAddition(Long userId, Bookmark.BookmarkType bookmarkType, Long itemId) {
+        if (bookmarkType == Bookmark.BookmarkType.ARTICLE) {
+            if (bookmarkRepository.existsByUserIdAndArticleId(userId, itemId)) {
+                logger.warn("Bookmark addition failed: article already bookmarked. User ID: {}, Article ID: {}", userId, itemId);
+                return new ConflictException("이미 북마크에 추가된 기사입니다. Article ID: " + itemId);
+            }
+            logger.warn("Bookmark addition failed: article not found. ID: {}", itemId);
+            return new ResourceNotFoundException("기사를 찾을 수 없습니다. ID: " + itemId);
         }
+        if (bookmarkRepository.existsByUserIdAndAiSummaryId(userId, itemId)) {
+            logger.warn("Bookmark addition failed: AI summary already bookmarked. User ID: {}, AI Summary ID: {}", userId, itemId);
+            return new ConflictException("이미 북마크에 추가된 AI 요약입니다. AI Summary ID: " + itemId);
+        }
+        logger.warn("Bookmark addition failed: AI summary not found. ID: {}", itemId);
+        return new ResourceNotFoundException("AI 요약을 찾을 수 없습니다. ID: " + itemId);
     }
 
     /**
-     * 북마크 여부 확인
+     * 북마크 여부 확인 - 사용자별 북마크 집합 캐시 사용
      */
     public boolean isBookmarked(Long userId, Bookmark.BookmarkType bookmarkType, Long articleId, Long aiSummaryId) {
         if (bookmarkType == Bookmark.BookmarkType.ARTICLE && articleId != null) {
-            return bookmarkRepository.existsByUserIdAndArticleId(userId, articleId);
+            return membershipCache.contains(userId, bookmarkType, articleId);
         } else if (bookmarkType == Bookmark.BookmarkType.AI_SUMMARY && aiSummaryId != null) {
-            return bookmarkRepository.existsByUserIdAndAiSummaryId(userId, aiSummaryId);
+            return membershipCache.contains(userId, bookmarkType, aiSummaryId);
         }
         return false;
     }
@@ -198,43 +262,14 @@ public class BookmarkService {
     }
 
     /**
-     * 배치 북마크 여부 확인
+     * 배치 북마크 여부 확인 - 사용자별 북마크 집합 캐시 사용 (캐시 적중 시 DB 조회 없음)
      */
     public Map<Long, Boolean> checkBookmarksBatch(Long userId, Bookmark.BookmarkType bookmarkType, List<Long> itemIds) {
         if (itemIds == null || itemIds.isEmpty()) {
             return new HashMap<>();
         }
 
-        Map<Long, Boolean> result = new HashMap<>();
-
-        if (bookmarkType == Bookmark.BookmarkType.ARTICLE) {
-            // 사용자의 모든 기사 북마크 조회
-            List<Bookmark> bookmarks = bookmarkRepository.findByUserIdAndArticleIdIn(userId, itemIds);
-
-            // 북마크된 기사 ID 집합 생성
-            Map<Long, Boolean> bookmarkedMap = bookmarks.stream()
-                    .filter(b -> b.getArticleId() != null)
-                    .collect(Collectors.toMap(Bookmark::getArticleId, b -> true));
-
-            // 모든 요청된 ID에 대해 결과 생성
-            for (Long itemId : itemIds) {
-                result.put(itemId, bookmarkedMap.getOrDefault(itemId, false));
-            }
-        } else if (bookmarkType == Bookmark.BookmarkType.AI_SUMMARY) {
-            // 사용자의 모든 AI 요약 북마크 조회
-            List<Bookmark> bookmarks = bookmarkRepository.findByUserIdAndAiSummaryIdIn(userId, itemIds);
-
-            // 북마크된 AI 요약 ID 집합 생성
-            Map<Long, Boolean> bookmarkedMap = bookmarks.stream()
-                    .filter(b -> b.getAiSummaryId() != null)
-                    .collect(Collectors.toMap(Bookmark::getAiSummaryId, b -> true));
-
-            // 모든 요청된 ID에 대해 결과 생성
-            for (Long itemId : itemIds) {
-                result.put(itemId, bookmarkedMap.getOrDefault(itemId, false));
-            }
-        }
-
+        Map<Long, Boolean> result = membershipCache.containsAll(userId, bookmarkType, itemIds);
         logger.debug("Batch bookmark check completed. User ID: {}, Type: {}, Checked {} items",
                 userId, bookmarkType, itemIds.size());
         return result;
@@ -243,7 +278,7 @@ public class BookmarkService {
     /**
      * BookmarkDto 변환 - 배치 조회용
      */
-    private BookmarkDto convertToDto(Bookmark bookmark, Map<Long, Article> articlesMap, Map<Long, AiSummary> summariesMap) {
+    private BookmarkDto convertToDto(Bookmark bookmark, Map<Long, ArticleListView> articlesMap, Map<Long, AiSummary> summariesMap) {
         BookmarkDto dto = new BookmarkDto();
         dto.setId(bookmark.getId());
         dto.setBookmarkType(bookmark.getBookmarkType());
@@ -253,7 +288,7 @@ public class BookmarkService {
 
         // 미리 로드된 데이터에서 조회
         if (bookmark.getBookmarkType() == Bookmark.BookmarkType.ARTICLE && bookmark.getArticleId() != null) {
-            Article article = articlesMap.get(bookmark.getArticleId());
+            ArticleListView article = articlesMap.get(bookmark.getArticleId());
             if (article != null) {
                 ArticleDto articleDto = articleMapper.toDto(article);
                 dto.setArticle(articleDto);
@@ -270,13 +305,12 @@ public class BookmarkService {
      * BookmarkDto 변환 - 단일 조회용
      */
     private BookmarkDto convertToDto(Bookmark bookmark) {
-        Map<Long, Article> articlesMap = new HashMap<>();
+        Map<Long, ArticleListView> articlesMap = new HashMap<>();
         Map<Long, AiSummary> summariesMap = new HashMap<>();
 
         // 단일 조회이므로 필요한 데이터만 로드
         if (bookmark.getBookmarkType() == Bookmark.BookmarkType.ARTICLE && bookmark.getArticleId() != null) {
-            Article article = articleRepository.findById(bookmark.getArticleId()).orElse(null);
-            if (article != null) {
+            for (ArticleListView article : articleRepository.findListByIdIn(List.of(bookmark.getArticleId()))) {
                 articlesMap.put(article.getId(), article);
             }
         } else if (bookmark.getBookmarkType() == Bookmark.BookmarkType.AI_SUMMARY && bookmark.getAiSummaryId() != null) {
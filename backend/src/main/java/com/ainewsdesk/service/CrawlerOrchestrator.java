@@ -0,0 +1,425 @@
+package com.ainewsdesk.service;
+
+import com.ainewsdesk.crawler.CrawlSink;
+import com.ainewsdesk.crawler.CrawlerService;
+import com.ainewsdesk.dto.ArticleIngestResult;
+import com.ainewsdesk.dto.CrawlerRunResult;
+import com.ainewsdesk.entity.Article;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 크롤러 실행 오케스트레이터
+ * <p>등록된 모든 {@link CrawlerService} 빈을 병렬로 실행, 크롤러별 제한 시간 초과 시 중단</p>
+ * <p>크롤러가 추출한 기사는 크기 제한 큐를 거쳐 단일 저장 단계(호출 스레드)에서 소량씩 묶어 저장</p>
+ * <p>큐가 가득 차면 크롤러가 대기(역압), 한 크롤러의 실패는 다른 크롤러에 영향 없음</p>
+ */
+@Service
+public class CrawlerOrchestrator {
+
+    private static final Logger logger = LoggerFactory.getLogger(CrawlerOrchestrator.class);
+    private static final long OFFER_RETRY_MILLIS = 200;
+
+    private final List<CrawlerService> crawlers;
+    private final ArticleService articleService;
+    private final MeterRegistry meterRegistry;
+    private final Duration defaultTimeout;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final ExecutorService crawlerExecutor;
+    private final DistributionSummary batchSizeSummary;
+
+    // 이전 실행이 끝나기 전에 다음 실행이 겹치지 않도록 방지
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public CrawlerOrchestrator(
+            List<CrawlerService> crawlers,
+            ArticleService articleService,
+            MeterRegistry meterRegistry,
+            @Value("${crawler.orchestrator.timeout-seconds:600}") long defaultTimeoutSeconds,
+            @Value("${crawler.orchestrator.queue-capacity:200}") int queueCapacity,
+            @Value("${crawler.orchestrator.batch-size:20}") int batchSize,
+            @Value("${crawler.orchestrator.flush-interval-ms:1000}") long flushIntervalMillis) {
+        this.crawlers = crawlers;
+        this.articleService = articleService;
+        this.meterRegistry = meterRegistry;
+        this.defaultTimeout = Duration.ofSeconds(defaultTimeoutSeconds);
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMillis = Math.max(1, flushIntervalMillis);
+        this.crawlerExecutor = Executors.newFixedThreadPool(
+                Math.max(1, crawlers.size()), new CustomizableThreadFactory("crawler-run-"));
+        this.batchSizeSummary = DistributionSummary.builder("crawler.write.batch.size")
+                .description("Articles persisted per micro-batch")
+                .register(meterRegistry);
+        logger.info("Crawler orchestrator initialized. Crawlers: {}", crawlers.stream()
+                .map(CrawlerService::getCrawlerName)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 전체 크롤러 실행 - 모든 크롤러가 끝나거나 제한 시간이 지나고 수집된 기사가 모두 저장되면 반환
+     */
+    public List<CrawlerRunResult> runAll() {
+        if (!running.compareAndSet(false, true)) {
+            logger.warn("Crawler run skipped. Previous run is still in progress.");
+            return Collections.emptyList();
+        }
+
+        List<CrawlRun> runs = new ArrayList<>();
+        try {
+            long startTime = System.currentTimeMillis();
+            BlockingQueue<PendingArticle> articleQueue = new ArrayBlockingQueue<>(queueCapacity);
+            BlockingQueue<CrawlRun> completedRuns = new LinkedBlockingQueue<>();
+            for (CrawlerService crawler : crawlers) {
+                runs.add(start(crawler, articleQueue, completedRuns));
+            }
+
+            List<CrawlerRunResult> results = write(articleQueue, completedRuns, runs.size());
+
+            logger.info("Crawler run finished. Crawlers: {}, Took: {}ms",
+                    results.size(), System.currentTimeMillis() - startTime);
+            return results;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Crawler run interrupted");
+            return Collections.emptyList();
+        } finally {
+            // 남은 크롤러가 큐에서 대기하지 않도록 닫음
+            runs.forEach(run -> run.open.set(false));
+            releaseWhenFinished(runs);
+        }
+    }
+
+    /**
+     * 모든 크롤러 스레드가 실제로 끝난 뒤 실행 상태 해제
+     * <p>시간 초과로 중단을 요청한 크롤러가 아직 돌고 있으면 다음 실행은 건너뜀 (스레드 풀에서 대기하지 않도록)</p>
+     */
+    private void releaseWhenFinished(List<CrawlRun> runs) {
+        List<CrawlRun> unfinished = runs.stream()
+                .filter(run -> !run.finished.isDone())
+                .collect(Collectors.toList());
+        if (unfinished.isEmpty()) {
+            running.set(false);
+            return;
+        }
+        logger.warn("Waiting for timed-out crawlers to stop before the next run: {}", unfinished.stream()
+                .map(run -> run.crawler.getCrawlerName())
+                .collect(Collectors.toList()));
+        CompletableFuture.allOf(unfinished.stream().map(run -> run.finished).toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, error) -> {
+                    running.set(false);
+                    logger.info("Timed-out crawlers stopped. Next run allowed.");
+                });
+    }
+
+    /**
+     * 크롤러 실행 시작 - 기사는 articleQueue로, 종료(성공/실패/시간 초과)는 completedRuns로 전달
+     */
+    private CrawlRun start(CrawlerService crawler, BlockingQueue<PendingArticle> articleQueue,
+                           BlockingQueue<CrawlRun> completedRuns) {
+        Duration timeout = crawler.getCrawlTimeout() != null ? crawler.getCrawlTimeout() : defaultTimeout;
+        CrawlRun run = new CrawlRun(crawler);
+        CrawlSink sink = new CrawlSink() {
+            @Override
+            public void accept(Article article) {
+                offer(run, article, articleQueue);
+            }
+
+            @Override
+            public void afterPersisted(Runnable action) {
+                run.registerAfterPersisted(action);
+            }
+        };
+
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        crawlerExecutor.execute(() -> {
+            // 스레드를 먼저 기록한 뒤 열림 여부 확인 - 시간 초과와 겹쳐도 중단 요청이 누락되지 않음
+            run.thread = Thread.currentThread();
+            try {
+                if (!run.open.get()) {
+                    throw new CancellationException("Crawl cancelled before start: " + crawler.getCrawlerName());
+                }
+                crawler.crawl(sink);
+                result.complete(null);
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            } finally {
+                run.thread = null;
+                // 늦게 도착한 중단 요청이 다음 작업에 남지 않도록 해제
+                Thread.interrupted();
+                run.finished.complete(null);
+            }
+        });
+
+        result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((ignored, error) -> {
+                    if (error instanceof TimeoutException) {
+                        // 시간 초과된 크롤러 스레드 중단, 이후 전달되는 기사는 버림
+                        run.open.set(false);
+                        Thread thread = run.thread;
+                        if (thread != null) {
+                            thread.interrupt();
+                        }
+                    }
+                    run.error = error;
+                    run.durationNanos = System.nanoTime() - run.startNanos;
+                    completedRuns.add(run);
+                });
+        return run;
+    }
+
+    /**
+     * 크롤러 스레드에서 기사를 큐에 넣음 - 큐가 가득 차면 대기, 실행이 닫히면 중단
+     * <p>같은 크롤러의 전달은 순서대로 처리하여 큐 순서와 crawledCount가 일치하도록 함 (저장 확인 기준)</p>
+     */
+    private void offer(CrawlRun run, Article article, BlockingQueue<PendingArticle> articleQueue) {
+        try {
+            synchronized (run) {
+                while (run.open.get()) {
+                    if (articleQueue.offer(new PendingArticle(run, article), OFFER_RETRY_MILLIS, TimeUnit.MILLISECONDS)) {
+                        run.crawledCount.incrementAndGet();
+                        return;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new CancellationException("Crawl cancelled: " + run.crawler.getCrawlerName());
+    }
+
+    /**
+     * 단일 저장 단계 - batchSize개가 모이거나 flushInterval이 지나면 저장
+     * <p>크롤러가 끝나면 그 시점까지 큐에 쌓인 기사를 모두 저장한 뒤 결과 확정</p>
+     */
+    private List<CrawlerRunResult> write(BlockingQueue<PendingArticle> articleQueue,
+                                         BlockingQueue<CrawlRun> completedRuns,
+                                         int runCount) throws InterruptedException {
+        List<CrawlerRunResult> results = new ArrayList<>();
+        List<PendingArticle> batch = new ArrayList<>(batchSize);
+        long flushDeadline = System.currentTimeMillis() + flushIntervalMillis;
+
+        while (results.size() < runCount) {
+            long waitMillis = Math.max(1, flushDeadline - System.currentTimeMillis());
+            PendingArticle first = articleQueue.poll(waitMillis, TimeUnit.MILLISECONDS);
+            if (first != null) {
+                batch.add(first);
+                articleQueue.drainTo(batch, batchSize - batch.size());
+            }
+            if (batch.size() >= batchSize || System.currentTimeMillis() >= flushDeadline) {
+                flush(batch);
+                flushDeadline = System.currentTimeMillis() + flushIntervalMillis;
+            }
+
+            List<CrawlRun> completed = new ArrayList<>();
+            completedRuns.drainTo(completed);
+            if (completed.isEmpty()) {
+                continue;
+            }
+            // 끝난 크롤러가 넣은 기사는 이미 모두 큐에 있음
+            flush(batch);
+            while (articleQueue.drainTo(batch, batchSize) > 0) {
+                flush(batch);
+            }
+            for (CrawlRun run : completed) {
+                run.open.set(false);
+                // 마지막 저장 이후 등록된 작업 (새 기사 없이 등록된 경우 포함)
+                runAfterPersisted(run);
+                results.add(complete(run));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 모인 기사 저장 - 크롤러별로 나누어 저장, 저장 실패는 해당 크롤러 결과에만 기록
+     */
+    private void flush(List<PendingArticle> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchSizeSummary.record(batch.size());
+
+        Map<CrawlRun, List<Article>> byRun = new LinkedHashMap<>();
+        for (PendingArticle pending : batch) {
+            byRun.computeIfAbsent(pending.run, run -> new ArrayList<>()).add(pending.article);
+        }
+        batch.clear();
+
+        for (Map.Entry<CrawlRun, List<Article>> entry : byRun.entrySet()) {
+            CrawlRun run = entry.getKey();
+            try {
+                ArticleIngestResult ingestResult = articleService.saveCrawledArticles(entry.getValue());
+                run.insertedCount += ingestResult.getInsertedCount();
+                run.skippedCount += ingestResult.getSkippedCount();
+                run.persistedCount += entry.getValue().size();
+            } catch (Exception e) {
+                run.persistError = e;
+                logger.error("Failed to save crawled articles. Crawler: {}, Articles: {}",
+                        run.crawler.getCrawlerName(), entry.getValue().size(), e);
+            }
+            runAfterPersisted(run);
+        }
+    }
+
+    /**
+     * 저장이 확인된 구간의 작업 실행 - 등록 시점까지 전달된 기사가 모두 저장되었으면 실행
+     * <p>한 번이라도 저장에 실패한 크롤러는 실행하지 않음 (진행 상태를 기록하지 않아 다음 크롤링에서 재수집)</p>
+     */
+    private void runAfterPersisted(CrawlRun run) {
+        if (run.persistError != null) {
+            return;
+        }
+        AfterPersisted pending;
+        while ((pending = run.afterPersisted.peek()) != null && pending.crawledCount <= run.persistedCount) {
+            run.afterPersisted.poll();
+            try {
+                pending.action.run();
+            } catch (Exception e) {
+                logger.warn("After-persist action failed. Crawler: {}", run.crawler.getCrawlerName(), e);
+            }
+        }
+    }
+
+    /**
+     * 크롤러 결과 확정 및 지표 기록
+     */
+    private CrawlerRunResult complete(CrawlRun run) {
+        String crawlerName = run.crawler.getCrawlerName();
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(run.durationNanos);
+        CrawlerRunResult result = new CrawlerRunResult();
+        result.setCrawlerName(crawlerName);
+        result.setDurationMillis(durationMillis);
+        result.setCrawledCount(run.crawledCount.get());
+        result.setInsertedCount(run.insertedCount);
+        result.setSkippedCount(run.skippedCount);
+
+        if (run.error != null) {
+            boolean timedOut = run.error instanceof TimeoutException;
+            result.setStatus(timedOut ? CrawlerRunResult.Status.TIMEOUT : CrawlerRunResult.Status.FAILED);
+            result.setError(timedOut ? "Crawl timed out" : run.error.toString());
+            logger.error("Crawler failed. Crawler: {}, Status: {}, Saved before failure: {}, Error: {}",
+                    crawlerName, result.getStatus(), run.insertedCount, run.error.toString());
+        } else if (run.persistError != null) {
+            result.setStatus(CrawlerRunResult.Status.FAILED);
+            result.setError(run.persistError.toString());
+        } else {
+            result.setStatus(CrawlerRunResult.Status.SUCCESS);
+            logger.info("Crawler finished. Crawler: {}, Crawled: {}, Inserted: {}, Skipped: {}, Took: {}ms",
+                    crawlerName, result.getCrawledCount(), result.getInsertedCount(),
+                    result.getSkippedCount(), durationMillis);
+        }
+
+        String status = result.getStatus().name().toLowerCase();
+        meterRegistry.timer("crawler.run.duration", "crawler", crawlerName, "status", status)
+                .record(run.durationNanos, TimeUnit.NANOSECONDS);
+        meterRegistry.counter("crawler.run.articles", "crawler", crawlerName, "result", "crawled")
+                .increment(result.getCrawledCount());
+        meterRegistry.counter("crawler.run.articles", "crawler", crawlerName, "result", "inserted")
+                .increment(result.getInsertedCount());
+        meterRegistry.counter("crawler.run.articles", "crawler", crawlerName, "result", "skipped")
+                .increment(result.getSkippedCount());
+
+        return result;
+    }
+
+    /**
+     * 크롤러 스레드 풀 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        crawlerExecutor.shutdownNow();
+    }
+
+    /**
+     * 크롤러 1개의 실행 상태
+     * <p>insertedCount/skippedCount/persistedCount/persistError는 저장 단계 스레드에서만 접근</p>
+     */
+    private static class CrawlRun {
+        private final CrawlerService crawler;
+        private final long startNanos = System.nanoTime();
+        private final AtomicBoolean open = new AtomicBoolean(true);
+        private final AtomicInteger crawledCount = new AtomicInteger();
+        private final Queue<AfterPersisted> afterPersisted = new ConcurrentLinkedQueue<>();
+        // 크롤러 스레드가 실제로 끝나면 완료 (시간 초과 후에도 스레드는 계속 돌 수 있음)
+        private final CompletableFuture<Void> finished = new CompletableFuture<>();
+        private volatile Thread thread;
+        private volatile Throwable error;
+        private volatile long durationNanos;
+        private int insertedCount;
+        private int skippedCount;
+        private int persistedCount;
+        private Exception persistError;
+
+        CrawlRun(CrawlerService crawler) {
+            this.crawler = crawler;
+        }
+
+        /**
+         * 저장 확인 후 작업 등록 - 지금까지 큐에 넣은 기사 수를 기준으로 기록, 닫힌 실행은 무시
+         */
+        void registerAfterPersisted(Runnable action) {
+            synchronized (this) {
+                if (open.get()) {
+                    afterPersisted.add(new AfterPersisted(crawledCount.get(), action));
+                }
+            }
+        }
+    }
+
+    /**
+     * 저장 확인 후 실행할 작업 - crawledCount개까지 저장되면 실행
+     */
+    private static class AfterPersisted {
+        private final int crawledCount;
+        private final Runnable action;
+
+        AfterPersisted(int crawledCount, Runnable action) {
+            this.crawledCount = crawledCount;
+            this.action = action;
+        }
+    }
+
+    /**
+     * 저장 대기 중인 기사
+     */
+    private static class PendingArticle {
+        private final CrawlRun run;
+        private final Article article;
+
+        PendingArticle(CrawlRun run, Article article) {
+            this.run = run;
+            this.article = article;
+        }
+    }
+}
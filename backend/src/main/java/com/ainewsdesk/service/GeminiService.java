@@ -1,23 +1,55 @@
 package com.ainewsdesk.service;
 
+import com.ainewsdesk.cache.LlmResponseCache;
+import com.ainewsdesk.entity.Article;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Gemini AI API 서비스
  * <p>Google Gemini API 텍스트 생성 및 AI 요약 수행</p>
+ * <p>연결을 재사용하는 HTTP 클라이언트 1개를 공유 (keep-alive, 가능하면 HTTP/2), 연결/응답 제한 시간 적용</p>
+ * <p>기사가 많으면 토큰 예산 단위로 나누어 병렬 요약한 뒤 합치는 맵-리듀스 방식 사용</p>
+ * <p>streamGenerateContent(SSE)로 생성 중인 텍스트를 조각 단위로 받을 수 있음</p>
  */
 @Service
 public class GeminiService {
 
+    private static final Logger logger = LoggerFactory.getLogger(GeminiService.class);
+
     @Value("${gemini.api.key}")
     private String apiKey;
 
@@ -30,64 +62,252 @@ public class GeminiService {
     @Value("${gemini.api.max-tokens:2048}")
     private int maxTokens;
 
-    private final RestTemplate restTemplate;
+    @Value("${gemini.summary.chunk-token-budget:8000}")
+    private int chunkTokenBudget;
+
+    @Value("${gemini.summary.map-parallelism:4}")
+    private int mapParallelism;
+
+    @Value("${gemini.summary.max-article-chars:1500}")
+    private int maxArticleChars;
 
-    public GeminiService() {
-        this.restTemplate = new RestTemplate();
+    private final ObjectMapper objectMapper;
+    private final LlmResponseCache responseCache;
+    private final MeterRegistry meterRegistry;
+    private final String baseUrl;
+    private final Duration requestTimeout;
+    private final ExecutorService httpExecutor;
+    private final HttpClient httpClient;
+
+    public GeminiService(
+            ObjectMapper objectMapper,
+            LlmResponseCache responseCache,
+            MeterRegistry meterRegistry,
+            @Value("${gemini.api.base-url:https://generativelanguage.googleapis.com/v1beta}") String baseUrl,
+            @Value("${gemini.api.connect-timeout-ms:5000}") long connectTimeoutMillis,
+            @Value("${gemini.api.request-timeout-seconds:120}") long requestTimeoutSeconds) {
+        this.objectMapper = objectMapper;
+        this.responseCache = responseCache;
+        this.meterRegistry = meterRegistry;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.requestTimeout = Duration.ofSeconds(requestTimeoutSeconds);
+        this.httpExecutor = Executors.newCachedThreadPool(new CustomizableThreadFactory("gemini-http-"));
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .executor(httpExecutor)
+                .build();
     }
 
     /**
      * Gemini API 텍스트 생성
      */
     public String generateText(String prompt) {
+        return await(generateTextAsync(prompt));
+    }
+
+    /**
+     * Gemini API 텍스트 생성 (비동기) - 호출 스레드를 막지 않으므로 여러 프롬프트를 동시에 요청 가능
+     * <p>같은 모델/설정/프롬프트의 응답이 캐시에 있으면 호출 없이 반환</p>
+     */
+    public CompletableFuture<String> generateTextAsync(String prompt) {
+        String cacheKey = LlmResponseCache.keyOf(model, temperature, maxTokens, prompt);
+        Optional<String> cached = responseCache.get(cacheKey);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(URI.create(baseUrl + "/models/" + model + ":generateContent"))
+                    .timeout(requestTimeout)
+                    .header("Content-Type", "application/json")
+                    .header("x-goog-api-key", apiKey)
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(buildRequestBody(prompt))))
+                    .build();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new UncheckedIOException(e));
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .thenApply(this::extractText)
+                .thenApply(text -> {
+                    responseCache.put(cacheKey, model, text);
+                    return text;
+                })
+                .whenComplete((text, error) -> sample.stop(meterRegistry.timer("gemini.request",
+                        "model", model, "outcome", error == null ? "success" : "failure")));
+    }
+
+    /**
+     * Gemini API 스트리밍 텍스트 생성 - 생성되는 텍스트 조각마다 onChunk 호출, 완료되면 전체 텍스트 반환
+     * <p>캐시에 있으면 호출 없이 전체 텍스트를 한 조각으로 전달</p>
+     * <p>요청 제한 시간은 응답 헤더뿐 아니라 본문 스트림 전체에 적용, 시간이 지나거나 반환된 future를 취소하면
+     * 읽고 있던 스트림을 중단</p>
+     *
+     * @param onChunk 텍스트 조각 수신 콜백 (HTTP 클라이언트 스레드에서 호출)
+     */
+    public CompletableFuture<String> streamTextAsync(String prompt, Consumer<String> onChunk) {
+        String cacheKey = LlmResponseCache.keyOf(model, temperature, maxTokens, prompt);
+        Optional<String> cached = responseCache.get(cacheKey);
+        if (cached.isPresent()) {
+            onChunk.accept(cached.get());
+            return CompletableFuture.completedFuture(cached.get());
+        }
+
+        HttpRequest request;
         try {
-            String url = String.format(
-                "https://generativelanguage.googleapis.com/v1beta/models/%s:generateContent?key=%s",
-                model, apiKey
-            );
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("contents", List.of(
-                Map.of("parts", List.of(
-                    Map.of("text", prompt)
-                ))
-            ));
-
-            Map<String, Object> generationConfig = new HashMap<>();
-            generationConfig.put("temperature", temperature);
-            generationConfig.put("maxOutputTokens", maxTokens);
-            requestBody.put("generationConfig", generationConfig);
-
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-
-            @SuppressWarnings("unchecked")
-            Map<String, Object> response = restTemplate.postForObject(url, request, Map.class);
-
-            if (response != null && response.containsKey("candidates")) {
-                @SuppressWarnings("unchecked")
-                List<Map<String, Object>> candidates = (List<Map<String, Object>>) response.get("candidates");
-                if (!candidates.isEmpty()) {
-                    Map<String, Object> candidate = candidates.get(0);
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> content = (Map<String, Object>) candidate.get("content");
-                    @SuppressWarnings("unchecked")
-                    List<Map<String, Object>> parts = (List<Map<String, Object>>) content.get("parts");
-                    if (!parts.isEmpty()) {
-                        return (String) parts.get(0).get("text");
+            request = HttpRequest.newBuilder(URI.create(baseUrl + "/models/" + model + ":streamGenerateContent?alt=sse"))
+                    .timeout(requestTimeout)
+                    .header("Content-Type", "application/json")
+                    .header("Accept", "text/event-stream")
+                    .header("x-goog-api-key", apiKey)
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(buildRequestBody(prompt))))
+                    .build();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new UncheckedIOException(e));
+        }
+
+        // 본문은 줄 단위로 도착하는 대로 읽으므로 응답 헤더 수신 후 별도 스레드에서 처리
+        Timer.Sample sample = Timer.start(meterRegistry);
+        StreamReader reader = new StreamReader();
+        CompletableFuture<HttpResponse<Stream<String>>> sending =
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofLines());
+        CompletableFuture<String> result = sending
+                .thenApplyAsync(response -> readStream(response, onChunk, reader), httpExecutor)
+                .thenApply(text -> {
+                    responseCache.put(cacheKey, model, text);
+                    return text;
+                });
+        // 취소/시간 초과는 result 자체에 반영되므로 후속 처리는 반환하지 않는 별도 단계로 연결
+        result.orTimeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((text, error) -> {
+                    if (error != null) {
+                        sending.cancel(true);
+                        reader.abort();
                     }
+                    sample.stop(meterRegistry.timer("gemini.stream",
+                            "model", model, "outcome", error == null ? "success" : "failure"));
+                });
+        return result;
+    }
+
+    /**
+     * SSE 응답 읽기 - "data:" 줄마다 첫 후보의 텍스트 조각을 전달하고 이어 붙임
+     */
+    private String readStream(HttpResponse<Stream<String>> response, Consumer<String> onChunk, StreamReader reader) {
+        try (Stream<String> lines = response.body()) {
+            if (!reader.begin()) {
+                throw new CancellationException("Gemini stream aborted before reading");
+            }
+            if (response.statusCode() / 100 != 2) {
+                logger.warn("Gemini API error response. Status: {}", response.statusCode());
+                throw new IllegalStateException("HTTP " + response.statusCode() + " - " + lines.collect(Collectors.joining("\n")));
+            }
+            StringBuilder text = new StringBuilder();
+            lines.forEach(line -> {
+                if (!line.startsWith("data:")) {
+                    return;
+                }
+                try {
+                    JsonNode chunk = objectMapper.readTree(line.substring(5).trim())
+                            .path("candidates").path(0).path("content").path("parts").path(0).path("text");
+                    if (chunk.isTextual() && !chunk.asText().isEmpty()) {
+                        text.append(chunk.asText());
+                        onChunk.accept(chunk.asText());
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
                 }
+            });
+            if (text.length() == 0) {
+                throw new IllegalStateException("Gemini API 응답이 예상 형식과 다릅니다.");
+            }
+            return text.toString();
+        } finally {
+            reader.end();
+        }
+    }
+
+    /**
+     * 요청 본문 생성
+     */
+    private Map<String, Object> buildRequestBody(String prompt) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("contents", List.of(
+            Map.of("parts", List.of(
+                Map.of("text", prompt)
+            ))
+        ));
+
+        Map<String, Object> generationConfig = new HashMap<>();
+        generationConfig.put("temperature", temperature);
+        generationConfig.put("maxOutputTokens", maxTokens);
+        requestBody.put("generationConfig", generationConfig);
+        return requestBody;
+    }
+
+    /**
+     * 응답에서 첫 후보의 텍스트 추출
+     */
+    private String extractText(HttpResponse<String> response) {
+        if (response.statusCode() / 100 != 2) {
+            logger.warn("Gemini API error response. Status: {}", response.statusCode());
+            throw new IllegalStateException("HTTP " + response.statusCode() + " - " + response.body());
+        }
+        try {
+            JsonNode text = objectMapper.readTree(response.body())
+                    .path("candidates").path(0).path("content").path("parts").path(0).path("text");
+            if (text.isTextual()) {
+                return text.asText();
             }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        throw new IllegalStateException("Gemini API 응답이 예상 형식과 다릅니다.");
+    }
+
+    /**
+     * 스트림 읽기 스레드 - 중단 요청 시 인터럽트로 막혀 있는 읽기를 깨움
+     * <p>읽기가 끝난 뒤에는 인터럽트하지 않고, 남은 인터럽트 상태는 풀 스레드에 남기지 않음</p>
+     */
+    private static final class StreamReader {
 
-            throw new RuntimeException("Gemini API 응답이 예상 형식과 다릅니다.");
+        private Thread thread;
+        private boolean aborted;
 
-        } catch (Exception e) {
-            throw new RuntimeException("Gemini API 호출 실패: " + e.getMessage(), e);
+        private synchronized boolean begin() {
+            if (aborted) {
+                return false;
+            }
+            thread = Thread.currentThread();
+            return true;
+        }
+
+        private synchronized void end() {
+            if (thread == Thread.currentThread()) {
+                thread = null;
+                Thread.interrupted();
+            }
+        }
+
+        private synchronized void abort() {
+            aborted = true;
+            if (thread != null) {
+                thread.interrupt();
+            }
         }
     }
 
+    /**
+     * HTTP 클라이언트 스레드 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        httpExecutor.shutdownNow();
+    }
+
     /**
      * AI 뉴스 요약 생성
      */
@@ -96,23 +316,221 @@ public class GeminiService {
             throw new IllegalArgumentException("기사 목록이 비어있습니다.");
         }
 
-        // 프롬프트 구성
-        StringBuilder articlesText = new StringBuilder();
-        for (int i = 0; i < articles.size(); i++) {
-            Map<String, String> article = articles.get(i);
-            articlesText.append(String.format("%d. %s\n%s\n\n",
-                i + 1,
-                article.get("title"),
-                article.get("description")
-            ));
+        List<String> items = new ArrayList<>();
+        for (Map<String, String> article : articles) {
+            items.add(article.get("title") + "\n" + article.get("description"));
+        }
+        return await(summarizeAsync(items));
+    }
+
+    /**
+     * 크롤링 기사 요약 생성 - 기사 본문은 앞부분 maxArticleChars자까지만 사용
+     */
+    public Map<String, String> summarizeArticles(List<Article> articles) {
+        if (articles == null || articles.isEmpty()) {
+            throw new IllegalArgumentException("기사 목록이 비어있습니다.");
+        }
+
+        return await(summarizeAsync(toItems(articles)));
+    }
+
+    /**
+     * 크롤링 기사 스트리밍 요약 - 최종 요약 텍스트를 생성되는 대로 onChunk로 전달
+     * <p>기사가 토큰 예산을 넘으면 부분 요약(map)을 먼저 마친 뒤 최종 요약만 스트리밍</p>
+     * <p>반환된 future를 취소하면 최종 요약 스트리밍도 중단</p>
+     *
+     * @param onChunk 최종 요약 텍스트 조각 수신 콜백
+     * @return 파싱된 최종 요약 (title, keyHighlights, content)
+     */
+    public CompletableFuture<Map<String, String>> streamSummary(List<Article> articles, Consumer<String> onChunk) {
+        if (articles == null || articles.isEmpty()) {
+            throw new IllegalArgumentException("기사 목록이 비어있습니다.");
+        }
+        // 반환된 future를 취소하면 진행 중인 스트리밍 요청도 취소 (thenCompose는 취소를 전파하지 않음)
+        AtomicReference<CompletableFuture<String>> stream = new AtomicReference<>();
+        AtomicBoolean abandoned = new AtomicBoolean(false);
+        CompletableFuture<Map<String, String>> summary = condense(toItems(articles), false)
+                .thenCompose(newsText -> {
+                    CompletableFuture<String> call = streamTextAsync(finalSummaryPrompt(newsText), onChunk);
+                    stream.set(call);
+                    if (abandoned.get()) {
+                        call.cancel(true);
+                    }
+                    return call;
+                })
+                .thenApply(this::parseSummaryResponse);
+        summary.whenComplete((result, error) -> {
+            if (error != null) {
+                abandoned.set(true);
+                CompletableFuture<String> call = stream.get();
+                if (call != null) {
+                    call.cancel(true);
+                }
+            }
+        });
+        return summary;
+    }
+
+    /**
+     * 기존 요약 증분 갱신 - 이전 요약과 새로 수집된 기사만 입력으로 사용
+     * <p>새 기사가 토큰 예산을 넘으면 먼저 부분 요약으로 줄인 뒤 갱신</p>
+     *
+     * @param previous 이전 요약 (title, keyHighlights, content)
+     * @param newArticles 이전 요약 이후 수집된 기사
+     */
+    public Map<String, String> updateSummary(Map<String, String> previous, List<Article> newArticles) {
+        if (newArticles == null || newArticles.isEmpty()) {
+            throw new IllegalArgumentException("기사 목록이 비어있습니다.");
+        }
+        return await(condense(toItems(newArticles), false)
+                .thenCompose(newsText -> generateTextAsync(updateSummaryPrompt(previous, newsText)))
+                .thenApply(this::parseSummaryResponse));
+    }
+
+    /**
+     * 기사 → 프롬프트 항목 변환 - 본문은 앞부분 maxArticleChars자까지만 사용
+     */
+    private List<String> toItems(List<Article> articles) {
+        List<String> items = new ArrayList<>();
+        for (Article article : articles) {
+            StringBuilder item = new StringBuilder();
+            item.append(article.getTitle());
+            if (article.getSourceName() != null) {
+                item.append(" (").append(article.getSourceName()).append(")");
+            }
+            item.append("\n");
+            String body = article.getContent() != null ? article.getContent() : article.getDescription();
+            if (body != null) {
+                item.append(body.length() > maxArticleChars ? body.substring(0, maxArticleChars) + "…" : body);
+            }
+            items.add(item.toString());
+        }
+        return items;
+    }
+
+    /**
+     * 맵-리듀스 요약 - 토큰 예산 단위로 묶어 병렬 요약(map)한 뒤 하나로 합침(reduce)
+     */
+    private CompletableFuture<Map<String, String>> summarizeAsync(List<String> items) {
+        return condense(items, false)
+                .thenCompose(newsText -> generateTextAsync(finalSummaryPrompt(newsText)))
+                .thenApply(this::parseSummaryResponse);
+    }
+
+    /**
+     * 항목을 토큰 예산 안으로 줄임 - 묶음이 1개가 될 때까지 묶음별 부분 요약을 반복
+     * <p>부분 요약을 더 묶을 수 없으면(각각이 예산 초과) 그대로 사용</p>
+     *
+     * @param partials 이미 부분 요약된 항목인지 여부
+     * @return 번호를 붙인 입력 텍스트
+     */
+    private CompletableFuture<String> condense(List<String> items, boolean partials) {
+        List<List<String>> chunks = chunkByTokenBudget(items);
+        if (chunks.size() == 1 || (partials && chunks.size() == items.size())) {
+            return CompletableFuture.completedFuture(numbered(items));
+        }
+        logger.info("Map-reduce summary. Items: {}, Chunks: {}, Parallelism: {}",
+                items.size(), chunks.size(), Math.min(mapParallelism, chunks.size()));
+        return mapChunks(chunks).thenCompose(mapped -> condense(mapped, true));
+    }
+
+    /**
+     * 묶음별 부분 요약 - 최대 mapParallelism개 요청을 동시에 실행, 결과는 묶음 순서대로
+     */
+    private CompletableFuture<List<String>> mapChunks(List<List<String>> chunks) {
+        String[] partials = new String[chunks.size()];
+        int lanes = Math.max(1, Math.min(mapParallelism, chunks.size()));
+
+        // 레인마다 담당 묶음을 차례로 요청 (레인끼리는 동시에 진행)
+        CompletableFuture<?>[] laneFutures = new CompletableFuture<?>[lanes];
+        for (int lane = 0; lane < lanes; lane++) {
+            CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+            for (int i = lane; i < chunks.size(); i += lanes) {
+                int index = i;
+                chain = chain.thenCompose(ignored -> generateTextAsync(chunkSummaryPrompt(numbered(chunks.get(index))))
+                        .thenAccept(text -> partials[index] = text));
+            }
+            laneFutures[lane] = chain;
+        }
+        return CompletableFuture.allOf(laneFutures).thenApply(ignored -> Arrays.asList(partials));
+    }
+
+    /**
+     * 토큰 예산 단위로 순서대로 묶음 - 예산보다 큰 항목은 단독 묶음
+     */
+    private List<List<String>> chunkByTokenBudget(List<String> items) {
+        List<List<String>> chunks = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        int currentTokens = 0;
+        for (String item : items) {
+            int tokens = estimateTokens(item);
+            if (!current.isEmpty() && currentTokens + tokens > chunkTokenBudget) {
+                chunks.add(current);
+                current = new ArrayList<>();
+                currentTokens = 0;
+            }
+            current.add(item);
+            currentTokens += tokens;
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    /**
+     * 토큰 수 추정 - 한글/영문 혼합 기준 약 3자당 1토큰 (보수적)
+     */
+    private static int estimateTokens(String text) {
+        return (text.length() + 2) / 3;
+    }
+
+    private static String numbered(List<String> items) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < items.size(); i++) {
+            text.append(i + 1).append(". ").append(items.get(i)).append("\n\n");
         }
+        return text.toString();
+    }
 
-        String prompt = String.format("당신은 AI 뉴스 전문 요약가입니다. 다음 AI 관련 뉴스 기사들을 분석하여 요약해주세요.\n\n[오늘의 AI 뉴스]\n%s\n\n다음 형식으로 요약을 작성해주세요:\n\n1. 제목 (Title):\n- 오늘의 주요 AI 뉴스를 대표하는 흥미로운 제목 (20자 이내)\n\n2. 주요 하이라이트 (KeyHighlights):\n- 가장 중요한 4-5가지 내용을 불릿 포인트로 요약\n- 각 항목은 한 줄로 간결하게\n\n3. 상세 내용 (Content):\n- **중요: 상세 내용은 반드시 최소 1500자 이상으로 작성해주세요**\n- 전체 기사들의 핵심 내용을 종합적으로 상세히 설명\n- 4-5개 이상의 섹션으로 구성 (각 섹션은 ## 제목으로 시작)\n- 각 섹션마다 충분한 설명과 예시 포함\n- 주요 동향, 기술 발전, 업계 영향, 전망 등을 포함\n- 절대 답변을 중간에 끊지 말고 완전히 작성할 것\n\n응답 형식:\nTITLE: [제목]\nHIGHLIGHTS:\n• [하이라이트1]\n• [하이라이트2]\n• [하이라이트3]\n• [하이라이트4]\n• [하이라이트5]\nCONTENT:\n[상세 내용 - 최소 1500자 이상, 여러 섹션으로 구성]\n\n주의사항: 답변을 절대 중간에 끊지 말고, CONTENT 섹션을 완전히 작성한 후 종료하세요.", articlesText.toString());
+    /**
+     * 부분 요약 프롬프트 (map)
+     */
+    private static String chunkSummaryPrompt(String itemsText) {
+        return String.format("당신은 AI 뉴스 전문 요약가입니다. 다음 AI 관련 뉴스 기사 묶음의 핵심 내용을 정리해주세요.\n\n[뉴스 묶음]\n%s\n다음 규칙을 지켜주세요:\n- 기사별로 핵심 사실(누가, 무엇을, 왜 중요한지)을 2-3문장으로 요약\n- 서로 관련된 기사는 하나로 묶어서 정리\n- 수치, 제품명, 기업명은 원문 그대로 유지\n- 서론이나 맺음말 없이 요약 내용만 작성", itemsText);
+    }
 
-        String response = generateText(prompt);
+    /**
+     * 최종 요약 프롬프트 (reduce)
+     */
+    private static String finalSummaryPrompt(String itemsText) {
+        return String.format("당신은 AI 뉴스 전문 요약가입니다. 다음 AI 관련 뉴스 기사들을 분석하여 요약해주세요.\n\n[오늘의 AI 뉴스]\n%s\n\n다음 형식으로 요약을 작성해주세요:\n\n1. 제목 (Title):\n- 오늘의 주요 AI 뉴스를 대표하는 흥미로운 제목 (20자 이내)\n\n2. 주요 하이라이트 (KeyHighlights):\n- 가장 중요한 4-5가지 내용을 불릿 포인트로 요약\n- 각 항목은 한 줄로 간결하게\n\n3. 상세 내용 (Content):\n- **중요: 상세 내용은 반드시 최소 1500자 이상으로 작성해주세요**\n- 전체 기사들의 핵심 내용을 종합적으로 상세히 설명\n- 4-5개 이상의 섹션으로 구성 (각 섹션은 ## 제목으로 시작)\n- 각 섹션마다 충분한 설명과 예시 포함\n- 주요 동향, 기술 발전, 업계 영향, 전망 등을 포함\n- 절대 답변을 중간에 끊지 말고 완전히 작성할 것\n\n응답 형식:\nTITLE: [제목]\nHIGHLIGHTS:\n• [하이라이트1]\n• [하이라이트2]\n• [하이라이트3]\n• [하이라이트4]\n• [하이라이트5]\nCONTENT:\n[상세 내용 - 최소 1500자 이상, 여러 섹션으로 구성]\n\n주의사항: 답변을 절대 중간에 끊지 말고, CONTENT 섹션을 완전히 작성한 후 종료하세요.", itemsText);
+    }
 
-        // 응답 파싱
-        return parseSummaryResponse(response);
+    /**
+     * 증분 갱신 프롬프트
+     */
+    private static String updateSummaryPrompt(Map<String, String> previous, String newsText) {
+        String previousText = "TITLE: " + previous.get("title") + "\nHIGHLIGHTS:\n" + previous.getOrDefault("keyHighlights", "")
+                + "\nCONTENT:\n" + previous.get("content");
+        return String.format("당신은 AI 뉴스 전문 요약가입니다. 오늘의 AI 뉴스 요약을 새로 들어온 기사로 갱신해주세요.\n\n[기존 요약]\n%s\n\n[새로 들어온 AI 뉴스]\n%s\n\n다음 규칙을 지켜주세요:\n- 새 기사의 중요한 소식을 반영하고, 기존 요약 중 여전히 중요한 내용은 유지\n- 기존 내용과 겹치는 소식은 하나로 합쳐서 정리\n- 제목은 오늘 전체 뉴스를 대표하도록 필요하면 바꿈 (20자 이내)\n- 하이라이트는 가장 중요한 4-5가지, 각 항목은 한 줄로 간결하게\n- 상세 내용은 기존 요약과 비슷한 분량으로 (최소 1500자 이상), 여러 섹션으로 구성 (각 섹션은 ## 제목으로 시작)\n- 절대 답변을 중간에 끊지 말고 완전히 작성할 것\n\n응답 형식:\nTITLE: [제목]\nHIGHLIGHTS:\n• [하이라이트1]\n• [하이라이트2]\n• [하이라이트3]\n• [하이라이트4]\n• [하이라이트5]\nCONTENT:\n[상세 내용]\n\n주의사항: 답변을 절대 중간에 끊지 말고, CONTENT 섹션을 완전히 작성한 후 종료하세요.", previousText, newsText);
+    }
+
+    /**
+     * 비동기 결과 대기 - generateText와 같은 예외로 변환
+     * <p>대기 중 인터럽트되면(임대를 잃은 스케줄 작업 등) 요청을 취소하고 인터럽트 상태를 유지한 채 중단</p>
+     */
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new RuntimeException("Gemini API 호출 실패: " + cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Gemini API 호출 대기 중단");
+        }
     }
 
     /**
@@ -0,0 +1,321 @@
+package com.ainewsdesk.service;
+
+import com.ainewsdesk.cache.LlmResponseCache;
+import com.ainewsdesk.repository.LlmResponseCacheRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * GeminiService HTTP 통신 테스트
+ * <p>gemini.api.base-url을 로컬 스텁 서버(com.sun.net.httpserver)로 바꿔 실제 API 없이 요청/응답 처리 확인</p>
+ */
+class GeminiServiceTest {
+
+    private static final String API_KEY = "test-key";
+    private static final String MODEL = "gemini-test";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicReference<HttpHandler> handler = new AtomicReference<>();
+    private final AtomicReference<RecordedRequest> lastRequest = new AtomicReference<>();
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private GeminiService geminiService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            lastRequest.set(new RecordedRequest(exchange));
+            handler.get().handle(exchange);
+        });
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        geminiService = createService(120);
+    }
+
+    @AfterEach
+    void tearDown() {
+        geminiService.shutdown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void generateTextAsync_returnsFirstCandidateText() throws Exception {
+        handler.set(exchange -> respond(exchange, 200, "application/json",
+                "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"요약 결과\"}]}}]}"));
+
+        String text = geminiService.generateTextAsync("프롬프트").get(5, TimeUnit.SECONDS);
+
+        assertThat(text).isEqualTo("요약 결과");
+        RecordedRequest request = lastRequest.get();
+        assertThat(request.method).isEqualTo("POST");
+        assertThat(request.path).isEqualTo("/models/" + MODEL + ":generateContent");
+        assertThat(request.apiKey).isEqualTo(API_KEY);
+        JsonNode body = objectMapper.readTree(request.body);
+        assertThat(body.path("contents").path(0).path("parts").path(0).path("text").asText()).isEqualTo("프롬프트");
+        assertThat(body.path("generationConfig").path("maxOutputTokens").asInt()).isEqualTo(256);
+    }
+
+    @Test
+    void generateTextAsync_failsOnErrorStatus() {
+        handler.set(exchange -> respond(exchange, 500, "application/json", "{\"error\":\"internal\"}"));
+
+        CompletableFuture<String> future = geminiService.generateTextAsync("프롬프트");
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("HTTP 500");
+    }
+
+    @Test
+    void generateTextAsync_failsOnUnexpectedBody() {
+        handler.set(exchange -> respond(exchange, 200, "application/json", "{\"candidates\":[]}"));
+
+        CompletableFuture<String> future = geminiService.generateTextAsync("프롬프트");
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void generateTextAsync_timesOutWhenServerDoesNotRespond() {
+        geminiService.shutdown();
+        geminiService = createService(1);
+        handler.set(exchange -> {
+            sleep(3000);
+            respond(exchange, 200, "application/json", "{}");
+        });
+
+        CompletableFuture<String> future = geminiService.generateTextAsync("프롬프트");
+
+        assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(HttpTimeoutException.class);
+    }
+
+    @Test
+    void streamTextAsync_deliversEachSseChunk() throws Exception {
+        handler.set(exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                writeEvent(out, ": keep-alive\n\n");
+                writeEvent(out, "data: {\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"오늘의 \"}]}}]}\n\n");
+                writeEvent(out, "data: {\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"AI 뉴스\"}]}}]}\n\n");
+                writeEvent(out, "data: {\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"\"}]}}]}\n\n");
+            }
+        });
+        List<String> chunks = new CopyOnWriteArrayList<>();
+
+        String text = geminiService.streamTextAsync("프롬프트", chunks::add).get(5, TimeUnit.SECONDS);
+
+        assertThat(text).isEqualTo("오늘의 AI 뉴스");
+        assertThat(chunks).containsExactly("오늘의 ", "AI 뉴스");
+        RecordedRequest request = lastRequest.get();
+        assertThat(request.path).isEqualTo("/models/" + MODEL + ":streamGenerateContent");
+        assertThat(request.query).isEqualTo("alt=sse");
+        assertThat(request.apiKey).isEqualTo(API_KEY);
+    }
+
+    @Test
+    void streamTextAsync_failsOnErrorStatus() {
+        handler.set(exchange -> respond(exchange, 429, "application/json", "{\"error\":\"quota\"}"));
+        List<String> chunks = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<String> future = geminiService.streamTextAsync("프롬프트", chunks::add);
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("HTTP 429");
+        assertThat(chunks).isEmpty();
+    }
+
+    @Test
+    void streamTextAsync_failsWhenStreamHasNoText() {
+        handler.set(exchange -> respond(exchange, 200, "text/event-stream", "data: {\"candidates\":[]}\n\n"));
+
+        CompletableFuture<String> future = geminiService.streamTextAsync("프롬프트", chunk -> { });
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void streamTextAsync_timesOutWhenServerDoesNotRespond() {
+        geminiService.shutdown();
+        geminiService = createService(1);
+        handler.set(exchange -> {
+            sleep(3000);
+            respond(exchange, 200, "text/event-stream", "");
+        });
+
+        CompletableFuture<String> future = geminiService.streamTextAsync("프롬프트", chunk -> { });
+
+        // 헤더 대기 제한과 스트림 전체 제한이 같은 시간이라 먼저 도달한 쪽의 예외
+        assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .satisfies(e -> assertThat(e.getCause())
+                        .isInstanceOfAny(HttpTimeoutException.class, TimeoutException.class));
+    }
+
+    @Test
+    void streamTextAsync_timesOutWhenBodyStallsAfterHeaders() throws Exception {
+        geminiService.shutdown();
+        geminiService = createService(1);
+        CountDownLatch released = new CountDownLatch(1);
+        handler.set(exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                writeEvent(out, "data: {\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"첫 조각\"}]}}]}\n\n");
+                released.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                // 클라이언트가 스트림을 중단하면 연결이 닫힘
+            }
+        });
+        List<String> chunks = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<String> future = geminiService.streamTextAsync("프롬프트", chunks::add);
+
+        try {
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(TimeoutException.class);
+            assertThat(chunks).containsExactly("첫 조각");
+        } finally {
+            released.countDown();
+        }
+    }
+
+    @Test
+    void streamTextAsync_stopsReadingWhenCancelled() throws Exception {
+        CountDownLatch firstChunkSent = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        handler.set(exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                writeEvent(out, "data: {\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"첫 조각\"}]}}]}\n\n");
+                firstChunkSent.countDown();
+                released.await(10, TimeUnit.SECONDS);
+                writeEvent(out, "data: {\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"늦은 조각\"}]}}]}\n\n");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                // 클라이언트가 스트림을 중단하면 연결이 닫힘
+            }
+        });
+        List<String> chunks = new CopyOnWriteArrayList<>();
+        CountDownLatch firstChunkReceived = new CountDownLatch(1);
+
+        CompletableFuture<String> future = geminiService.streamTextAsync("프롬프트", chunk -> {
+            chunks.add(chunk);
+            firstChunkReceived.countDown();
+        });
+        assertThat(firstChunkSent.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(firstChunkReceived.await(5, TimeUnit.SECONDS)).isTrue();
+
+        future.cancel(true);
+        released.countDown();
+
+        assertThat(future).isCancelled();
+        Thread.sleep(200);
+        assertThat(chunks).containsExactly("첫 조각");
+    }
+
+    /**
+     * 스텁 서버를 바라보는 서비스 생성 - 응답 캐시는 끔
+     */
+    private GeminiService createService(long requestTimeoutSeconds) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LlmResponseCache responseCache = new LlmResponseCache(
+                mock(LlmResponseCacheRepository.class), meterRegistry, false, 72);
+        GeminiService service = new GeminiService(objectMapper, responseCache, meterRegistry,
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/", 1000, requestTimeoutSeconds);
+        ReflectionTestUtils.setField(service, "apiKey", API_KEY);
+        ReflectionTestUtils.setField(service, "model", MODEL);
+        ReflectionTestUtils.setField(service, "temperature", 0.2);
+        ReflectionTestUtils.setField(service, "maxTokens", 256);
+        return service;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void writeEvent(OutputStream out, String event) throws IOException {
+        out.write(event.getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 스텁 서버가 받은 요청
+     */
+    private static class RecordedRequest {
+
+        private final String method;
+        private final String path;
+        private final String query;
+        private final String apiKey;
+        private final String body;
+
+        RecordedRequest(HttpExchange exchange) throws IOException {
+            this.method = exchange.getRequestMethod();
+            this.path = exchange.getRequestURI().getPath();
+            this.query = exchange.getRequestURI().getQuery();
+            this.apiKey = exchange.getRequestHeaders().getFirst("x-goog-api-key");
+            this.body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
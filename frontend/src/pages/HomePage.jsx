@@ -136,8 +136,8 @@ const HomePage = () => {
   const fetchLatestSummary = async () => {
     try {
       const response = await summaryService.getLatestSummary()
-      if (response.content && response.content.length > 0) {
-        setLatestSummary(response.content[0])
+      if (response) {
+        setLatestSummary(response)
       }
     } catch (error) {
       console.error('Failed to fetch latest summary:', error)
@@ -157,14 +157,14 @@ const SummariesPage = () => {
                   </div>
 
                   {/* Key Highlights */}
-                  {summary.keyHighlights && (
+                  {summary.highlightPreview && (
                     <div className="bg-purple-400/10 border border-purple-400/30 rounded-lg p-4">
                       <div className="flex items-center gap-2 mb-3">
                         <TrendingUp className="w-5 h-5 text-purple-400" />
                         <h3 className="text-lg font-semibold text-purple-300">주요 하이라이트</h3>
                       </div>
                       <div className="space-y-2">
-                        {parseHighlights(summary.keyHighlights).map((highlight, index) => (
+                        {parseHighlights(summary.highlightPreview).map((highlight, index) => (
                           <p key={index} className="text-gray-300 leading-relaxed">
                             {highlight}
                           </p>
@@ -31,6 +31,15 @@ export const articleService = {
     return response.data
   },
 
+  // 기사 피드 커서 조회 (무한 스크롤용, cursor는 이전 응답의 nextCursor)
+  getFeed: async (cursor = null, size = 20) => {
+    const params = { size }
+    if (cursor) params.cursor = cursor
+
+    const response = await api.get('/articles/feed', { params })
+    return response.data
+  },
+
   // 기사 검색
   search: async (query, page = 0, size = 20) => {
     const response = await api.get('/articles/search', {
@@ -22,15 +22,9 @@ export const summaryService = {
     return response.data
   },
 
-  // 최신 AI 요약 조회
+  // 최신 발행 AI 요약 조회 (목록 응답에는 본문이 없으므로 전용 엔드포인트 사용)
   getLatestSummary: async () => {
-    const response = await api.get('/ai-summaries', {
-      params: {
-        page: 0,
-        size: 1,
-        sort: 'createdAt,desc'
-      }
-    })
+    const response = await api.get('/ai-summaries/latest')
     return response.data
   },
 